@@ -64,6 +64,7 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.event.ChangeListener;
@@ -96,7 +97,7 @@ import org.openide.util.NbBundle;
 import org.openide.util.RequestProcessor;
 import org.openide.util.lookup.Lookups;
 import org.netbeans.modules.payara.spi.PayaraModule;
-import org.netbeans.modules.payara.spi.PayaraModule3;
+import org.netbeans.modules.payara.spi.PayaraModule4;
 import org.netbeans.modules.payara.tooling.data.PayaraServerStatus;
 
 /**
@@ -105,7 +106,7 @@ import org.netbeans.modules.payara.tooling.data.PayaraServerStatus;
  * @author Peter Williams, Tomas Kraus
  */
 public class CommonServerSupport
-        implements PayaraModule3, RefreshModulesCookie {
+        implements PayaraModule4, RefreshModulesCookie {
 
     ////////////////////////////////////////////////////////////////////////////
     // Inner classes                                                         //
@@ -273,6 +274,9 @@ public class CommonServerSupport
     /** String to return for failed {@see getHttpHostFromServer()} search. */
     private static final String FAILED_HTTP_HOST = LOCALHOST + "FAIL";
 
+    /** Maximum number of targets processed at once during deployment. */
+    private static final int MAX_PARALLEL_TARGETS = 4;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
@@ -685,6 +689,7 @@ public class CommonServerSupport
     public Future<ResultString> deploy(final TaskStateListener stateListener,
             final File application, final String name, final String contextRoot,
             final Map<String, String> properties, final File[] libraries) {
+        PayaraStatus.touch(instance);
         try {
             return ServerAdmin.<ResultString>exec(instance, new CommandDeploy(
                     name, Util.computeTarget(instance.getProperties()),
@@ -695,6 +700,32 @@ public class CommonServerSupport
         }
     }
 
+    @Override
+    public Future<ResultString> deploy(final TaskStateListener stateListener,
+            final File application, final String name, final String contextRoot,
+            final Map<String, String> properties, final File[] libraries,
+            final String[] targets) {
+        if (targets == null || targets.length < 2) {
+            return deploy(stateListener, application, name, contextRoot,
+                    properties, libraries);
+        }
+        PayaraStatus.touch(instance);
+        String[] otherTargets = new String[targets.length - 1];
+        System.arraycopy(targets, 1, otherTargets, 0, otherTargets.length);
+        CompletableFuture<ResultString> future = CommandDeploy.deployAsync(
+                instance, new CommandDeploy(name, targets[0], application,
+                contextRoot, properties, libraries), otherTargets,
+                MAX_PARALLEL_TARGETS, stateListener);
+        // Modules are refreshed when deployment to all targets finished.
+        future.whenComplete(new BiConsumer<ResultString, Throwable>() {
+            @Override
+            public void accept(final ResultString result, final Throwable t) {
+                refreshChildren();
+            }
+        });
+        return future;
+    }
+
     @Override
     public Future<ResultString> redeploy(
             final TaskStateListener stateListener,
@@ -730,6 +761,7 @@ public class CommonServerSupport
         if (resourcesChanged) {
             properties.put("preserveAppScopedResources", "true");
         }
+        PayaraStatus.touch(instance);
         try {
             return ServerAdmin.<ResultString>exec(instance, new CommandRedeploy(
                     name, Util.computeTarget(instance.getProperties()),
@@ -743,6 +775,7 @@ public class CommonServerSupport
     @Override
     public Future<ResultString> undeploy(
             final TaskStateListener stateListener, final String name) {
+        PayaraStatus.touch(instance);
         return ServerAdmin.<ResultString>exec(
                 instance, new CommandUndeploy(name, Util.computeTarget(
                 instance.getProperties())), null,
@@ -1099,45 +1132,34 @@ public class CommonServerSupport
      * @return String array of names of deployed applications.
      */
     public Map<String, List<AppDesc>> getApplications(String container) {
-        Map<String, List<AppDesc>> result = Collections.emptyMap();
-            Map<String, List<String>> apps = Collections.emptyMap();
-        try {
-            ResultMap<String, List<String>> resultMap
-                    = CommandListComponents.listComponents(instance,
-                    Util.computeTarget(instance.getProperties()));
-            if (resultMap.getState() == TaskState.COMPLETED) {
-                apps = resultMap.getValue();
-            }
-        } catch (PayaraIdeException gfie) {
-            LOGGER.log(Level.INFO,
-                    "Could not retrieve components server.", gfie);
-        }
-        if (null == apps || apps.isEmpty()) {
-            return result;
-        }
+        // Components are listed while application properties and references
+        // are retrieved by single get command with both patterns, so only
+        // this thread waits for the result.
         try {
-            ResultMap<String, String> appPropsResult = CommandGetProperty
-                    .getProperties(instance, "applications.application.*");
-            if (appPropsResult.getState() == TaskState.COMPLETED) {
-                ResultMap<String, String> appRefResult
-                        = CommandGetProperty.getProperties(
-                        instance, "servers.server.*.application-ref.*");
-                if (appRefResult.getState() == TaskState.COMPLETED) {
-                    result = processApplications(apps,
-                            appPropsResult.getValue(),
-                            appRefResult.getValue());
-                }
-            }
-        } catch (PayaraIdeException gfie) {
+            return CommandListComponents.listComponentsAsync(instance,
+                    Util.computeTarget(instance.getProperties()))
+                    .thenCombine(CommandGetProperty.getPropertiesAsync(
+                            instance, "applications.application.*",
+                            "servers.server.*.application-ref.*"),
+                            (resultMap, propsResult) -> {
+                        final Map<String, List<String>> apps
+                                = resultMap.getState() == TaskState.COMPLETED
+                                ? resultMap.getValue() : null;
+                        if (null == apps || apps.isEmpty()
+                                || propsResult.getState() != TaskState.COMPLETED) {
+                            return Collections.<String, List<AppDesc>>emptyMap();
+                        }
+                        return processApplications(apps, propsResult.getValue());
+                    }).get();
+        } catch (InterruptedException | ExecutionException ex) {
             LOGGER.log(Level.INFO,
-                    "Could not retrieve property from server.", gfie);
+                    "Could not retrieve applications from server.", ex);
         }
-        return result;
+        return Collections.emptyMap();
     }
 
     private Map<String, List<AppDesc>> processApplications(Map<String,
-            List<String>> appsList, Map<String, String> properties,
-            Map<String, String> refProperties){
+            List<String>> appsList, Map<String, String> properties){
         Map<String, List<AppDesc>> result = new HashMap<String, List<AppDesc>>();
         Iterator<String> appsItr = appsList.keySet().iterator();
         while (appsItr.hasNext()) {
@@ -1170,13 +1192,13 @@ public class CommonServerSupport
                         +name+ ".enabled";  //NOI18N
                 // This needs to be more focused. Does it need to list
                 // of servers that are associated with the target?
-                for (String possibleKey : refProperties.keySet()) {
+                for (String possibleKey : properties.keySet()) {
                     if (possibleKey.endsWith(".application-ref."
                             + name + ".enabled")) { // NOI18N
                         enabledKey = possibleKey;
                     }
                 }
-                String enabledValue = refProperties.get(enabledKey);
+                String enabledValue = properties.get(enabledKey);
                 if (null != enabledValue) {
                     boolean enabled = Boolean.parseBoolean(enabledValue);
 
@@ -1231,33 +1253,20 @@ public class CommonServerSupport
     private String getHttpHostFromServer(
             String server, String nameOfLocalhost) {
         String retVal = FAILED_HTTP_HOST;
-        String refVal = null;
-        String gpc = "servers.server."+server+".node-ref";
+        String refKey = "servers.server."+server+".node-ref";
+        // Node reference and host names of all nodes are retrieved together
+        // so node host is resolved without another round trip.
+        String[] gpc = new String[] {refKey, "nodes.node.*.node-host"};
         try {
             ResultMap<String, String> result = CommandGetProperty.getProperties(
                     instance, gpc, PROPERTIES_FETCH_TIMEOUT);
             if (result.getState() == TaskState.COMPLETED) {
-                for (Entry<String, String> entry 
-                        : result.getValue().entrySet()) {
-                    String val = entry.getValue();
+                Map<String, String> values = result.getValue();
+                String refVal = values.get(refKey);
+                if (null != refVal && refVal.trim().length() > 0) {
+                    String val = values.get("nodes.node." + refVal + ".node-host");
                     if (null != val && val.trim().length() > 0) {
-                        refVal = val;
-                        break;
-                    }
-                }
-                if (refVal != null) {
-                    gpc = "nodes.node." + refVal + ".node-host";
-                    result = CommandGetProperty.getProperties(
-                            instance, gpc, PROPERTIES_FETCH_TIMEOUT);
-                    if (result.getState() == TaskState.COMPLETED) {
-                        for (Entry<String, String> entry
-                                : result.getValue().entrySet()) {
-                            String val = entry.getValue();
-                            if (null != val && val.trim().length() > 0) {
-                                retVal = val;
-                                break;
-                            }
-                        }
+                        retVal = val;
                     }
                 }
             }
@@ -53,6 +53,7 @@ import java.util.prefs.BackingStoreException;
 import javax.swing.event.ChangeListener;
 import org.netbeans.modules.payara.tooling.PayaraStatus;
 import org.netbeans.modules.payara.tooling.admin.CommandSetProperty;
+import org.netbeans.modules.payara.tooling.admin.ServerAdmin;
 import org.netbeans.modules.payara.tooling.server.config.ConfigBuilderProvider;
 import org.netbeans.api.server.ServerInstance;
 import org.netbeans.modules.payara.common.parser.DomainXMLChangeListener;
@@ -296,6 +297,7 @@ public final class PayaraInstanceProvider implements ServerInstanceProvider, Loo
         }
         PayaraStatus.remove(si);
         if (result) {
+            ServerAdmin.invalidateCache(si);
             ConfigBuilderProvider.destroyBuilder(si);
             if (!si.isRemote()) {
                 DomainXMLChangeListener.unregisterListener(si);
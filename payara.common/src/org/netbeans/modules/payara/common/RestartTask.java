@@ -65,6 +65,7 @@ import org.netbeans.modules.payara.tooling.admin.CommandSetProperty;
 import org.netbeans.modules.payara.tooling.admin.CommandStopDAS;
 import org.netbeans.modules.payara.tooling.admin.ResultMap;
 import org.netbeans.modules.payara.tooling.admin.ResultString;
+import org.netbeans.modules.payara.tooling.admin.ServerAdmin;
 import org.netbeans.modules.payara.tooling.utils.NetUtils;
 import org.netbeans.modules.payara.tooling.utils.ServerUtils;
 import static org.netbeans.modules.payara.common.BasicTask.START_TIMEOUT;
@@ -400,6 +401,8 @@ public class RestartTask extends BasicTask<TaskState> {
     public TaskState call() {
         PayaraStatus state = PayaraState.getStatus(instance).getStatus();
         StateChange change;
+        // Server listeners may change on restart.
+        ServerAdmin.invalidateCache(instance);
         switch (state) {
             case UNKNOWN:
                 return fireOperationStateChanged(
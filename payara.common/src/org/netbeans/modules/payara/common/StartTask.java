@@ -51,6 +51,7 @@ import org.netbeans.modules.payara.tooling.admin.CommandStartInstance;
 import org.netbeans.modules.payara.tooling.admin.CommandVersion;
 import org.netbeans.modules.payara.tooling.admin.CommandStartCluster;
 import org.netbeans.modules.payara.tooling.admin.ResultString;
+import org.netbeans.modules.payara.tooling.admin.ServerAdmin;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -231,6 +232,8 @@ public class StartTask extends BasicTask<TaskState> {
         if ((change = validateAdminHostAndPort(host, adminPort)) != null) {
                 return change.fireOperationStateChanged();
         }
+        // Server listeners may change on startup.
+        ServerAdmin.invalidateCache(instance);
         // Remote server.
         if (support.isRemote()) {
             if (PayaraState.isOnline(instance)) {
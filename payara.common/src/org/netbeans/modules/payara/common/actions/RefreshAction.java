@@ -48,6 +48,7 @@ package org.netbeans.modules.payara.common.actions;
 import java.awt.event.ActionEvent;
 import java.util.Collection;
 import org.netbeans.modules.payara.common.nodes.actions.RefreshModulesCookie;
+import org.netbeans.modules.payara.tooling.PayaraStatus;
 import org.openide.nodes.Node;
 import org.openide.util.HelpCtx;
 import org.openide.util.NbBundle;
@@ -64,6 +65,7 @@ public class RefreshAction extends NodeAction {
     @Override
     protected void performAction(Node[] activatedNodes) {
         for(Node node : activatedNodes) {
+            touch(node.getLookup().lookup(PayaraModule.class));
             Collection<? extends RefreshModulesCookie> cookies =
                     node.getLookup().lookupAll(RefreshModulesCookie.class);
             for(RefreshModulesCookie cookie: cookies) {
@@ -73,12 +75,26 @@ public class RefreshAction extends NodeAction {
     }
     
     private static void performActionImpl(PayaraModule commonSupport) {
+        touch(commonSupport);
         // Tell the server instance to refresh it's status.
         if(commonSupport instanceof RefreshModulesCookie) {
             ((RefreshModulesCookie) commonSupport).refresh();
         }
     }
 
+    /**
+     * Notify server status monitoring about refresh requested by user
+     * so server status is checked more often for a while.
+     * <p/>
+     * @param commonSupport Server instance to be refreshed,
+     *                      may be <code>null</code>.
+     */
+    private static void touch(PayaraModule commonSupport) {
+        if(commonSupport != null) {
+            PayaraStatus.touch(commonSupport.getInstance());
+        }
+    }
+
     @Override
     protected boolean enable(Node[] activatedNodes) {
         boolean result = false;
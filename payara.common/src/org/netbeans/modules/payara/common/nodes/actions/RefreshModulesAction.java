@@ -46,6 +46,8 @@
 package org.netbeans.modules.payara.common.nodes.actions;
 
 import java.util.Collection;
+import org.netbeans.modules.payara.spi.PayaraModule;
+import org.netbeans.modules.payara.tooling.PayaraStatus;
 import org.openide.nodes.Node;
 import org.openide.util.HelpCtx;
 import org.openide.util.NbBundle;
@@ -80,6 +82,13 @@ public class RefreshModulesAction extends NodeAction {
     @Override
     protected void performAction(Node[] nodes) {
         for(Node node:nodes) {
+            // Server status is checked more often after refresh requested
+            // by user.
+            PayaraModule commonSupport
+                    = node.getLookup().lookup(PayaraModule.class);
+            if (commonSupport != null) {
+                PayaraStatus.touch(commonSupport.getInstance());
+            }
             Collection<? extends RefreshModulesCookie> cookies = 
                     node.getLookup().lookupAll(RefreshModulesCookie.class);
             for(RefreshModulesCookie cookie: cookies) {
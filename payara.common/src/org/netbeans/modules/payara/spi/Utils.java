@@ -58,6 +58,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
 import org.netbeans.modules.payara.common.PayaraInstanceProvider;
+import org.netbeans.modules.payara.tooling.utils.NetUtils;
 import org.openide.filesystems.FileObject;
 import org.openide.filesystems.FileUtil;
 
@@ -245,12 +246,13 @@ public class Utils {
 
     /**
      * identify the http/https protocol designator for a port
-     *
+     * <p/>
+     * Result of secure port check is cached for each host and port.
      */
     public static String getHttpListenerProtocol(String hostname, int port) {
         String retVal = "http";
         try {
-                    if (isSecurePort(hostname, port)) {
+                    if (NetUtils.isSecurePortCached(hostname, port)) {
                         retVal = "https";
                     }
         } catch (ConnectException ex) {
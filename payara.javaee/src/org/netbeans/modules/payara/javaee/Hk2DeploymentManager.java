@@ -50,7 +50,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.enterprise.deploy.model.DeployableObject;
@@ -188,6 +190,13 @@ public class Hk2DeploymentManager implements DeploymentManager2 {
             });
             commonSupport.restartServer(restartProgress);
             return updateCRProgress;
+        } else if (targetList.length > 1
+                && commonSupport instanceof PayaraModule4) {
+            // Upload archive once and reference it on remaining targets.
+            ((PayaraModule4)commonSupport).deploy(deployProgress, moduleArchive,
+                    moduleName, cr, Collections.<String, String>emptyMap(),
+                    requiredLibraries, getTargetNames(targetList, targ));
+            return updateCRProgress;
         } else {
             if (commonSupport2 != null && requiredLibraries.length > 0) {
                 commonSupport2.deploy(deployProgress, moduleArchive, moduleName, cr, Collections.<String, String>emptyMap(), requiredLibraries);
@@ -634,6 +643,24 @@ public class Hk2DeploymentManager implements DeploymentManager2 {
         return result;
     }
 
+    /**
+     * Get deployment target names of provided targets.
+     * <p/>
+     * @param targetList    Deployment targets.
+     * @param defaultTarget Target used for targets without target name
+     *                      in their URI.
+     * @return Distinct deployment target names.
+     */
+    private static String[] getTargetNames(Target[] targetList, String defaultTarget) {
+        Set<String> names = new LinkedHashSet<String>(targetList.length);
+        for (Target target : targetList) {
+            String name = target instanceof Hk2Target
+                    ? getTargetFromUri(((Hk2Target) target).getServerUri()) : null;
+            names.add(name != null ? name : defaultTarget);
+        }
+        return names.toArray(new String[names.size()]);
+    }
+
     public static String getTargetFromUri(String uri) {
         String target = null;
             int lastColon = uri.lastIndexOf(':');
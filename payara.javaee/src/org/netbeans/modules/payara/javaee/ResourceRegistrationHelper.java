@@ -45,7 +45,7 @@
 
 package org.netbeans.modules.payara.javaee;
 
-import org.netbeans.modules.payara.tooling.admin.CommandSetProperty;
+import org.netbeans.modules.payara.tooling.admin.CommandSetProperties;
 import org.netbeans.modules.payara.tooling.admin.ResultString;
 import org.netbeans.modules.payara.tooling.admin.CommandAddResources;
 import org.netbeans.modules.payara.tooling.admin.CommandGetProperty;
@@ -247,18 +247,11 @@ public class ResourceRegistrationHelper {
     }
 
     public static void putResourceData(Map<String, String> data, Hk2DeploymentManager dm) {
-        Set<String> keys = data.keySet();
-        for (String k : keys) {
-            String name = k;
-            String value = data.get(k);
-            try {
-                PayaraModule support = dm.getCommonServerSupport();
-                CommandSetProperty command = support.getCommandFactory()
-                        .getSetPropertyCommand(name, value);
-                CommandSetProperty.setProperty(support.getInstance(), command);
-            } catch (PayaraIdeException gfie) {
-                Logger.getLogger("payara-javaee").log(Level.INFO, gfie.getMessage(), gfie);  // NOI18N
-            }
+        try {
+            PayaraModule support = dm.getCommonServerSupport();
+            CommandSetProperties.setProperties(support.getInstance(), data);
+        } catch (PayaraIdeException gfie) {
+            Logger.getLogger("payara-javaee").log(Level.INFO, gfie.getMessage(), gfie);  // NOI18N
         }
     }
 
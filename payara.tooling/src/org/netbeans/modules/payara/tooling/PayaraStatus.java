@@ -397,6 +397,21 @@ public enum PayaraStatus {
         return StatusScheduler.getInstance().suspend(srv);
     }
 
+    /**
+     * Notify server status monitoring about IDE action on Payara server
+     * instance.
+     * <p/>
+     * Server is checked more often for a while after IDE action and back off
+     * of server status checks in stable state is reset.
+     * <p/>
+     * @param srv Payara server instance touched by IDE action.
+     * @return Value of <code>true</code> when server instance is registered
+     *         or <code>false</code> otherwise.
+     */
+    public static boolean touch(final PayaraServer srv) {
+        return StatusScheduler.getInstance().touch(srv);
+    }
+
     /**
      * Register server status listener to be notified about current server
      * status after every check.
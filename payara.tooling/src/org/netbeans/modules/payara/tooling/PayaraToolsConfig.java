@@ -60,6 +60,42 @@ public class PayaraToolsConfig {
     /** Proxy settings usage for loopback addresses. */
     private static volatile boolean proxyForLoopback = true;
 
+    /** Default maximum number of simultaneously open administration
+     *  connections to a single server. */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+
+    /** Default time [ms] after which unused administration connections
+     *  to a server are evicted. */
+    public static final long DEFAULT_CONNECTION_IDLE_TIMEOUT = 30000;
+
+    /** Default maximum number of administration commands being executed
+     *  at the same time across all servers. */
+    public static final int DEFAULT_MAX_CONCURRENT_COMMANDS = 4;
+
+    /** Default maximum number of server status checks being executed
+     *  at the same time across all servers. */
+    public static final int DEFAULT_MAX_CONCURRENT_STATUS_CHECKS = 4;
+
+    /** Maximum number of administration commands being executed at the same
+     *  time across all servers. */
+    private static volatile int maxConcurrentCommands
+            = DEFAULT_MAX_CONCURRENT_COMMANDS;
+
+    /** Maximum number of server status checks being executed at the same
+     *  time across all servers. */
+    private static volatile int maxConcurrentStatusChecks
+            = DEFAULT_MAX_CONCURRENT_STATUS_CHECKS;
+
+    /** Maximum number of simultaneously open administration connections
+     *  to a single server. */
+    private static volatile int maxConnectionsPerHost
+            = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+
+    /** Time [ms] after which unused administration connections to a server
+     *  are evicted. */
+    private static volatile long connectionIdleTimeout
+            = DEFAULT_CONNECTION_IDLE_TIMEOUT;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
@@ -89,5 +125,106 @@ public class PayaraToolsConfig {
         return proxyForLoopback;
     }
 
-}
+    /**
+     * Set maximum number of simultaneously open administration connections
+     * to a single server.
+     * <p/>
+     * @param maxConnections Maximum number of connections per server
+     *                       (must be greater than <code>0</code>).
+     */
+    public static void setMaxConnectionsPerHost(final int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum number of connections must be positive.");
+        }
+        maxConnectionsPerHost = maxConnections;
+    }
+
+    /**
+     * Get maximum number of simultaneously open administration connections
+     * to a single server.
+     * <p/>
+     * @return Maximum number of connections per server.
+     */
+    public static int getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * Set time after which unused administration connections to a server
+     * are evicted.
+     * <p/>
+     * @param timeout Idle timeout [ms].
+     */
+    public static void setConnectionIdleTimeout(final long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException(
+                    "Idle timeout must not be negative.");
+        }
+        connectionIdleTimeout = timeout;
+    }
+
+    /**
+     * Get time after which unused administration connections to a server
+     * are evicted.
+     * <p/>
+     * @return Idle timeout [ms].
+     */
+    public static long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
 
+    /**
+     * Set maximum number of administration commands being executed at the same
+     * time across all servers.
+     * <p/>
+     * Commands passed to the same server are always executed one by one.
+     * This limit caps number of servers being administered in parallel.
+     * <p/>
+     * @param maxCommands Maximum number of concurrently executed commands
+     *                    (must be greater than <code>0</code>).
+     */
+    public static void setMaxConcurrentCommands(final int maxCommands) {
+        if (maxCommands < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum number of commands must be positive.");
+        }
+        maxConcurrentCommands = maxCommands;
+    }
+
+    /**
+     * Get maximum number of administration commands being executed at the same
+     * time across all servers.
+     * <p/>
+     * @return Maximum number of concurrently executed commands.
+     */
+    public static int getMaxConcurrentCommands() {
+        return maxConcurrentCommands;
+    }
+
+    /**
+     * Set maximum number of server status checks being executed at the same
+     * time across all servers.
+     * <p/>
+     * @param maxChecks Maximum number of concurrently executed status checks
+     *                  (must be greater than <code>0</code>).
+     */
+    public static void setMaxConcurrentStatusChecks(final int maxChecks) {
+        if (maxChecks < 1) {
+            throw new IllegalArgumentException(
+                    "Maximum number of status checks must be positive.");
+        }
+        maxConcurrentStatusChecks = maxChecks;
+    }
+
+    /**
+     * Get maximum number of server status checks being executed at the same
+     * time across all servers.
+     * <p/>
+     * @return Maximum number of concurrently executed status checks.
+     */
+    public static int getMaxConcurrentStatusChecks() {
+        return maxConcurrentStatusChecks;
+    }
+
+}
@@ -76,6 +76,10 @@ public enum TaskEvent {
     CMD_COMPLETED,
     /** Server command failed. */
     CMD_FAILED,
+    /** Server command execution timeout expired. */
+    CMD_TIMEOUT,
+    /** Server command execution phase finished. */
+    CMD_PHASE,
     /** Authorization failed on HTTP protocol level (401 or 403 response). 
       * This is usually handled by java.net.Authenticator. */
     AUTH_FAILED_HTTP,
@@ -127,6 +131,12 @@ public enum TaskEvent {
     /**  A <code>String</code> representation of CMD_FAILED value. */
     private static final String CMD_FAILED_STR = "CmdFailed";
 
+    /**  A <code>String</code> representation of CMD_TIMEOUT value. */
+    private static final String CMD_TIMEOUT_STR = "CmdTimeout";
+
+    /**  A <code>String</code> representation of CMD_PHASE value. */
+    private static final String CMD_PHASE_STR = "CmdPhase";
+
     /** A <code>String</code> representation of AUTH_FAILED_HTTP value. */
     private static final String AUTH_FAILED_HTTP_STR = "AuthFailedHttp";
 
@@ -208,6 +218,8 @@ public enum TaskEvent {
             case CMD_EXCEPTION:       return CMD_EXCEPTION_STR;
             case CMD_COMPLETED:       return CMD_COMPLETED_STR;
             case CMD_FAILED:          return CMD_FAILED_STR;
+            case CMD_TIMEOUT:         return CMD_TIMEOUT_STR;
+            case CMD_PHASE:           return CMD_PHASE_STR;
             case AUTH_FAILED_HTTP:    return AUTH_FAILED_HTTP_STR;
             case AUTH_FAILED:         return AUTH_FAILED_STR;
             case EMPTY_MESSAGE:       return EMPTY_MESSAGE_STR;
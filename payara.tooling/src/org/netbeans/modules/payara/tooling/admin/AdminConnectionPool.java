@@ -0,0 +1,588 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.UnknownHostException;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+import org.netbeans.modules.payara.tooling.PayaraToolsConfig;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Pooled HTTP transport for Payara server administration commands.
+ * <p/>
+ * Every Payara server (host and administration port) gets its own endpoint.
+ * Endpoint holds SSL socket factory shared by all connections to this server
+ * so TLS sessions and persistent connections kept alive by JDK HTTP client
+ * are reused between administration commands instead of being torn down
+ * after each of them. Endpoint also limits number of simultaneously open
+ * connections to the server. Limit follows configuration changes. Idle
+ * persistent connections and TLS sessions of endpoints which were not used
+ * for longer than configured idle timeout are evicted.
+ * <p/>
+ * Endpoint lives until its server's cached state is invalidated so
+ * connections in use and connections being opened share the same
+ * connections limit.
+ * <p/>
+ * @see PayaraToolsConfig#setMaxConnectionsPerHost(int)
+ * @see PayaraToolsConfig#setConnectionIdleTimeout(long)
+ */
+class AdminConnectionPool {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Semaphore which number of permits may be reduced.
+     */
+    private static class Permits extends Semaphore {
+
+        /**
+         * Constructs an instance of fair semaphore.
+         * <p/>
+         * @param permits Initial number of permits.
+         */
+        private Permits(final int permits) {
+            super(permits, true);
+        }
+
+        /**
+         * Shrink number of available permits.
+         * <p/>
+         * @param reduction Number of permits to remove.
+         */
+        @Override
+        protected void reducePermits(final int reduction) {
+            super.reducePermits(reduction);
+        }
+
+    }
+
+    /**
+     * Connections to single Payara server.
+     */
+    static class Endpoint {
+
+        ////////////////////////////////////////////////////////////////////////
+        // Instance attributes                                                //
+        ////////////////////////////////////////////////////////////////////////
+
+        /** Endpoint key (<code>host:port</code>). */
+        private final String key;
+
+        /** Permits for simultaneously open connections. */
+        private final Permits permits;
+
+        /** Maximum number of simultaneously open connections.
+         *  Guarded by <code>permits</code>. */
+        private int maxConnections;
+
+        /** Connections released for reuse. Disconnecting them closes
+         *  idle persistent connections kept alive by JDK HTTP client. */
+        private final Queue<HttpURLConnection> idle;
+
+        /** SSL socket factory shared by all secure connections. */
+        private volatile SSLSocketFactory sslSocketFactory;
+
+        /** Time of last endpoint usage [ms]. */
+        private volatile long lastUsed;
+
+        ////////////////////////////////////////////////////////////////////////
+        // Constructors                                                       //
+        ////////////////////////////////////////////////////////////////////////
+
+        /**
+         * Constructs an instance of Payara server connections endpoint.
+         * <p/>
+         * @param key            Endpoint key (<code>host:port</code>).
+         * @param maxConnections Maximum number of simultaneously open
+         *                       connections.
+         */
+        private Endpoint(final String key, final int maxConnections) {
+            this.key = key;
+            this.permits = new Permits(maxConnections);
+            this.maxConnections = maxConnections;
+            this.idle = new ConcurrentLinkedQueue<>();
+            this.lastUsed = System.currentTimeMillis();
+        }
+
+        ////////////////////////////////////////////////////////////////////////
+        // Methods                                                            //
+        ////////////////////////////////////////////////////////////////////////
+
+        /**
+         * Get endpoint key.
+         * <p/>
+         * @return Endpoint key (<code>host:port</code>).
+         */
+        String getKey() {
+            return key;
+        }
+
+        /**
+         * Acquire permit to open connection to the server. Blocks until
+         * permit is available or timeout expires.
+         * <p/>
+         * @param timeout Maximum time to wait for permit [ms].
+         * @return Value of <code>true</code> if permit was acquired
+         *         or <code>false</code> if timeout expired.
+         * @throws InterruptedException if waiting thread was interrupted.
+         */
+        boolean acquire(final long timeout) throws InterruptedException {
+            if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            lastUsed = System.currentTimeMillis();
+            return true;
+        }
+
+        /**
+         * Return permit to open connection to the server.
+         */
+        void release() {
+            lastUsed = System.currentTimeMillis();
+            permits.release();
+        }
+
+        /**
+         * Change maximum number of simultaneously open connections.
+         * Connections in use are not affected but no new connection is
+         * opened until their number drops below new maximum.
+         * <p/>
+         * @param max New maximum number of simultaneously open connections.
+         */
+        private void resize(final int max) {
+            synchronized (permits) {
+                if (max > maxConnections) {
+                    permits.release(max - maxConnections);
+                } else if (max < maxConnections) {
+                    permits.reducePermits(maxConnections - max);
+                }
+                maxConnections = max;
+            }
+        }
+
+        /**
+         * Remember connection released for reuse. Number of remembered
+         * connections is limited by maximum number of simultaneously open
+         * connections.
+         * <p/>
+         * @param hconn HTTP connection released for reuse.
+         */
+        private void idle(final HttpURLConnection hconn) {
+            idle.add(hconn);
+            while (idle.size() > maxConnections) {
+                idle.poll();
+            }
+        }
+
+        /**
+         * Close idle persistent connections to the server. Disconnecting
+         * connection released for reuse closes one idle connection to its
+         * server kept alive by JDK HTTP client. Connections in use are not
+         * affected.
+         * <p/>
+         * @return Number of disconnected connections.
+         */
+        private int closeIdle() {
+            int count = 0;
+            HttpURLConnection hconn;
+            while ((hconn = idle.poll()) != null) {
+                hconn.disconnect();
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Opens {@link URLConnection} to Payara server administration
+         * interface.
+         * <p/>
+         * Secure connections are initialized with endpoint's shared
+         * SSL socket factory.
+         * <p/>
+         * @param url Payara server administration interface URL.
+         * @return Payara server administration interface URL connection.
+         * @throws IOException if an I/O error occurs while opening
+         *         the connection.
+         */
+        URLConnection open(final URL url) throws IOException {
+            URLConnection conn = openURLConnection(url);
+            if (conn instanceof HttpsURLConnection) {
+                HttpsURLConnection sconn = (HttpsURLConnection)conn;
+                SSLSocketFactory factory = sslSocketFactory();
+                if (factory != null) {
+                    sconn.setSSLSocketFactory(factory);
+                }
+                sconn.setHostnameVerifier(TRUST_ALL_HOSTS);
+            }
+            return conn;
+        }
+
+        /**
+         * Get SSL socket factory shared by all secure connections
+         * to the server.
+         * <p/>
+         * @return SSL socket factory or <code>null</code> if SSL context
+         *         could not be initialized.
+         */
+        private SSLSocketFactory sslSocketFactory() {
+            SSLSocketFactory factory = sslSocketFactory;
+            if (factory == null) {
+                synchronized (this) {
+                    factory = sslSocketFactory;
+                    if (factory == null) {
+                        factory = sslSocketFactory = createSSLSocketFactory();
+                    }
+                }
+            }
+            return factory;
+        }
+
+        /**
+         * Close idle persistent connections and drop SSL socket factory
+         * so no new connection will reuse cached TLS sessions. Connections
+         * limit is not affected.
+         * <p/>
+         * @return Value of <code>true</code> when any connection was closed
+         *         or SSL socket factory was dropped or <code>false</code>
+         *         when there was nothing to evict.
+         */
+        private boolean reset() {
+            final boolean closed = closeIdle() > 0;
+            synchronized (this) {
+                final boolean active = sslSocketFactory != null;
+                sslSocketFactory = null;
+                return closed || active;
+            }
+        }
+
+        /**
+         * Check whether this endpoint was not used for longer than given
+         * idle timeout.
+         * <p/>
+         * @param now     Current time [ms].
+         * @param timeout Idle timeout [ms].
+         * @return Value of <code>true</code> when endpoint is idle
+         *         or <code>false</code> otherwise.
+         */
+        private boolean isIdle(final long now, final long timeout) {
+            return now - lastUsed > timeout
+                    && permits.availablePermits() > 0
+                    && !permits.hasQueuedThreads();
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminConnectionPool.class);
+
+    /** Trust manager accepting any server certificate. We just send
+     *  administration commands, not money or secrets. */
+    private static final TrustManager[] TRUST_ALL_CERTS = new TrustManager[] {
+        new X509TrustManager() {
+
+            @Override
+            public void checkClientTrusted(final X509Certificate[] chain,
+                    final String authType) throws CertificateException {
+            }
+
+            @Override
+            public void checkServerTrusted(final X509Certificate[] chain,
+                    final String authType) throws CertificateException {
+            }
+
+            @Override
+            public X509Certificate[] getAcceptedIssuers() {
+                return null;
+            }
+        }
+    };
+
+    /** Host name verifier accepting any host. */
+    private static final HostnameVerifier TRUST_ALL_HOSTS
+            = new HostnameVerifier() {
+
+        @Override
+        public boolean verify(final String host, final SSLSession session) {
+            return true;
+        }
+    };
+
+    /** Buffer size used to drain unread response content. */
+    private static final int DRAIN_BUFFER_SIZE = 512;
+
+    /** Endpoints of individual Payara servers. */
+    private static final Map<String, Endpoint> endpoints
+            = new ConcurrentHashMap<>();
+
+    /** Time of last idle endpoints eviction [ms]. */
+    private static volatile long lastEviction = System.currentTimeMillis();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get connections endpoint of given Payara server. New endpoint
+     * is created when no endpoint for this server exists. Connections limit
+     * of existing endpoint is updated when configuration changed.
+     * <p/>
+     * @param server Payara server entity object.
+     * @return Connections endpoint of given Payara server.
+     */
+    static Endpoint endpoint(final PayaraServer server) {
+        evictIdle();
+        final int maxConnections = PayaraToolsConfig.getMaxConnectionsPerHost();
+        String key = ServerUtils.adminKey(server);
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            Endpoint newEndpoint = new Endpoint(key, maxConnections);
+            endpoint = endpoints.putIfAbsent(key, newEndpoint);
+            if (endpoint == null) {
+                endpoint = newEndpoint;
+            }
+        }
+        endpoint.resize(maxConnections);
+        return endpoint;
+    }
+
+    /**
+     * Evict idle persistent connections and cached TLS sessions of given
+     * Payara server.
+     * <p/>
+     * Connections currently in use are not affected but no new connection
+     * will reuse cached TLS sessions. Endpoint is kept so its connections
+     * limit still applies to connections in use.
+     * <p/>
+     * @param server Payara server entity object.
+     */
+    static void evict(final PayaraServer server) {
+        final Endpoint endpoint
+                = endpoints.get(ServerUtils.adminKey(server));
+        if (endpoint != null) {
+            endpoint.reset();
+        }
+    }
+
+    /**
+     * Remove endpoint of given Payara server and close its idle persistent
+     * connections.
+     * <p/>
+     * Connections currently in use release their permits to removed endpoint.
+     * Next connection to the server creates new endpoint.
+     * <p/>
+     * @param server Payara server entity object.
+     */
+    static void remove(final PayaraServer server) {
+        final Endpoint endpoint
+                = endpoints.remove(ServerUtils.adminKey(server));
+        if (endpoint != null) {
+            endpoint.reset();
+        }
+    }
+
+    /**
+     * Evict idle persistent connections and cached TLS sessions of endpoints
+     * which were not used for longer than configured idle timeout. Eviction
+     * runs at most once per idle timeout period.
+     */
+    private static void evictIdle() {
+        final String METHOD = "evictIdle";
+        final long timeout = PayaraToolsConfig.getConnectionIdleTimeout();
+        final long now = System.currentTimeMillis();
+        if (now - lastEviction <= timeout) {
+            return;
+        }
+        lastEviction = now;
+        for (Endpoint endpoint : endpoints.values()) {
+            if (endpoint.isIdle(now, timeout) && endpoint.reset()) {
+                LOGGER.log(Level.FINEST, METHOD, "evict", endpoint.getKey());
+            }
+        }
+    }
+
+    /**
+     * Release HTTP connection after administration command exchange.
+     * <p/>
+     * Connection which completed the exchange is kept open to be reused
+     * by next command. Remaining response content is drained and stream
+     * closed so JDK HTTP client can return underlying socket into its keep
+     * alive cache. Endpoint remembers such connection so it can close
+     * the socket when evicted. Connection which failed is disconnected.
+     * <p/>
+     * @param endpoint  Connections endpoint of connection's server.
+     * @param hconn     HTTP connection to be released.
+     * @param reusable  Value of <code>true</code> when exchange completed
+     *                  and connection may be kept alive.
+     */
+    static void release(final Endpoint endpoint,
+            final HttpURLConnection hconn, final boolean reusable) {
+        final String METHOD = "release";
+        if (!reusable) {
+            hconn.disconnect();
+            return;
+        }
+        try {
+            InputStream es = hconn.getErrorStream();
+            if (es != null) {
+                drain(es);
+            }
+            endpoint.idle(hconn);
+        } catch (IOException ioe) {
+            LOGGER.log(Level.FINEST, METHOD, "drain", ioe);
+            hconn.disconnect();
+        }
+    }
+
+    /**
+     * Read all remaining content from given stream without closing it.
+     * <p/>
+     * JDK HTTP client returns connection into its keep alive cache when
+     * response content was read to its end. Connection whose response
+     * stream was not closed can be disconnected later to close idle
+     * connection to its server.
+     * <p/>
+     * @param in Stream to be skipped.
+     * @throws IOException when an I/O error occurs.
+     */
+    static void skip(final InputStream in) throws IOException {
+        byte[] buff = new byte[DRAIN_BUFFER_SIZE];
+        while (in.read(buff) >= 0) {
+            // Discard content.
+        }
+    }
+
+    /**
+     * Read all remaining content from given stream and close it.
+     * <p/>
+     * @param in Stream to be drained.
+     * @throws IOException when an I/O error occurs.
+     */
+    private static void drain(final InputStream in) throws IOException {
+        try {
+            skip(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Creates {@link URLConnection} instance that represents a connection
+     * to Payara server administration interface.
+     * <p/>
+     * Depending on Payara Tooling Library configuration proxy usage for
+     * loopback addresses may be suppressed.
+     * <p/>
+     * @param urlToConnectTo Payara server administration interface URL.
+     * @return Payara server administration interface URL connection.
+     * @throws IOException IOException if an I/O error occurs while opening the
+     *                     connection.
+     */
+    private static URLConnection openURLConnection(
+            final URL urlToConnectTo) throws IOException {
+        if (!PayaraToolsConfig.getProxyForLoopback()) {
+            InetAddress addr;
+            try {
+                addr = InetAddress.getByName(urlToConnectTo.getHost());
+            } catch (UnknownHostException ex) {
+                addr = null;
+            }
+            if (addr != null && addr.isLoopbackAddress()) {
+                return urlToConnectTo.openConnection(Proxy.NO_PROXY);
+            }
+        }
+        return urlToConnectTo.openConnection();
+    }
+
+    /**
+     * Creates SSL socket factory trusting any server.
+     * <p/>
+     * @return SSL socket factory or <code>null</code> if SSL context
+     *         could not be initialized.
+     */
+    private static SSLSocketFactory createSSLSocketFactory() {
+        final String METHOD = "createSSLSocketFactory";
+        try {
+            SSLContext context = SSLContext.getInstance("SSL");
+            context.init(null, TRUST_ALL_CERTS, null);
+            return context.getSocketFactory();
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            // if there is an issue here... there will be another exception
+            // later which will take care of the user interaction...
+            LOGGER.log(Level.INFO, METHOD, "exception", ex);
+            return null;
+        }
+    }
+
+}
@@ -92,12 +92,14 @@ public class AdminFactoryHttp extends AdminFactory {
      * Build runner for HTTP command interface execution and connect it with
      * provided <code>Command</code> instance.
      * <p>
-     * @param srv Payara server entity object.
-     * @param cmd Payara server administration command entity.
+     * @param srv       Payara server entity object.
+     * @param requested Payara server administration command entity.
      * @return Payara server administration command execution object.
      */
     @Override
-    public Runner getRunner(final PayaraServer srv, final Command cmd) {
+    public Runner getRunner(final PayaraServer srv, final Command requested) {
+        // Unchanged archive is redeployed without upload.
+        final Command cmd = DeployDigests.getInstance().command(srv, requested);
         Runner runner;
         Class cmcClass = cmd.getClass();
         RunnerHttpClass rc = (RunnerHttpClass)cmcClass.getAnnotation(
@@ -0,0 +1,361 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.netbeans.modules.payara.tooling.PayaraToolsConfig;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Payara server administration commands executor.
+ * <p/>
+ * Every Payara server (host and administration port) has its own lane.
+ * Commands passed to the same server are executed one by one in submission
+ * order. Lanes of independent servers run concurrently on shared worker
+ * threads so slow command on one server does not block commands passed
+ * to other servers. Number of worker threads caps number of commands being
+ * executed at the same time.
+ * <p/>
+ * Futures of submitted commands are completed on separate completion
+ * threads so dependent stages never run on worker threads. Stage which
+ * blocks waiting for another command passed to the same server does not
+ * hold the lane which should execute that command.
+ * <p/>
+ * Executor is implemented as singleton.
+ * <p/>
+ * @see PayaraToolsConfig#setMaxConcurrentCommands(int)
+ */
+class AdminLaneExecutor {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Payara administration commands executor {@link ThreadFactory}.
+     * <p/>
+     * Constructs new daemon threads for administration command lanes
+     * and watchdog.
+     */
+    private static final class ThreadFactory
+            implements java.util.concurrent.ThreadFactory {
+
+        /** Thread name. */
+        private final String threadName;
+
+        /**
+         * Constructs an instance of administration commands executor
+         * thread factory.
+         * <p/>
+         * @param threadName Name of constructed threads.
+         */
+        private ThreadFactory(final String threadName) {
+            this.threadName = threadName;
+        }
+
+        /**
+         * Constructs a new {@link Thread}.
+         * <p/>
+         * @param r A runnable to be executed by new {@link Thread} instance.
+         * @return Constructed thread.
+         */
+        @Override
+        public Thread newThread(final Runnable r) {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+    /**
+     * Queue of commands passed to single Payara server.
+     * <p/>
+     * Lane is scheduled on worker threads at most once at a time. Each run
+     * executes single command and schedules lane again when more commands
+     * are waiting so lanes of all servers get fair share of worker threads.
+     */
+    private final class Lane implements Runnable {
+
+        /** Lane key (<code>host:port</code>). */
+        private final String key;
+
+        /** Commands waiting for execution. Guarded by <code>lanes</code>. */
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        /** Lane is scheduled on worker threads. Guarded
+         *  by <code>lanes</code>. */
+        private boolean scheduled;
+
+        /**
+         * Constructs an instance of administration commands lane.
+         * <p/>
+         * @param key Lane key (<code>host:port</code>).
+         */
+        private Lane(final String key) {
+            this.key = key;
+            this.scheduled = false;
+        }
+
+        /**
+         * Execute next waiting command.
+         */
+        @Override
+        public void run() {
+            Runnable task;
+            synchronized (lanes) {
+                task = tasks.poll();
+            }
+            try {
+                if (task != null) {
+                    task.run();
+                }
+            } finally {
+                synchronized (lanes) {
+                    if (tasks.isEmpty()) {
+                        scheduled = false;
+                        lanes.remove(key);
+                    } else {
+                        workers.execute(this);
+                    }
+                }
+            }
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Time [s] after which idle worker thread is terminated. */
+    private static final long KEEP_ALIVE_TIME = 60;
+
+    /** Worker threads name. */
+    private static final String WORKERS_THREAD_NAME
+            = "Payara Administration Commands";
+
+    /** Completion threads name. */
+    private static final String COMPLETIONS_THREAD_NAME
+            = "Payara Administration Commands Completion";
+
+    /** Watchdog thread name. */
+    private static final String WATCHDOG_THREAD_NAME
+            = "Payara Administration Commands Watchdog";
+
+    /** Singleton object instance. */
+    private static volatile AdminLaneExecutor instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return existing singleton instance of this class or create a new one
+     * when no instance exists.
+     * <p/>
+     * @return <code>AdminLaneExecutor</code> singleton instance.
+     */
+    static AdminLaneExecutor getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (AdminLaneExecutor.class) {
+            if (instance == null) {
+                instance = new AdminLaneExecutor();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Build lane key for given Payara server.
+     * <p/>
+     * @param server Payara server entity object.
+     * @return Lane key (<code>host:port</code>).
+     */
+    static String key(final PayaraServer server) {
+        return ServerUtils.adminKey(server);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Active lanes of individual Payara servers. */
+    private final Map<String, Lane> lanes;
+
+    /** Worker threads shared by all lanes. */
+    private final ThreadPoolExecutor workers;
+
+    /** Threads completing futures of executed commands and running their
+     *  dependent stages. */
+    private final ThreadPoolExecutor completions;
+
+    /** Watchdog aborting administration commands which timeout expired. */
+    private final ScheduledThreadPoolExecutor watchdog;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of Payara server administration commands executor.
+     */
+    private AdminLaneExecutor() {
+        final int size = PayaraToolsConfig.getMaxConcurrentCommands();
+        lanes = new HashMap<>();
+        workers = new ThreadPoolExecutor(size, size,
+                KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory(WORKERS_THREAD_NAME));
+        workers.allowCoreThreadTimeOut(true);
+        completions = new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+                KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(),
+                new ThreadFactory(COMPLETIONS_THREAD_NAME));
+        watchdog = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactory(WATCHDOG_THREAD_NAME));
+        watchdog.setRemoveOnCancelPolicy(true);
+        watchdog.setKeepAliveTime(KEEP_ALIVE_TIME, TimeUnit.SECONDS);
+        watchdog.allowCoreThreadTimeOut(true);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Submit administration command for execution in given Payara
+     * server's lane.
+     * <p/>
+     * @param server Target Payara server.
+     * @param task   Administration command to be executed.
+     * @return Future completed with result of asynchronous execution.
+     */
+    <T> CommandFuture<T> submit(final PayaraServer server,
+            final Callable<T> task) {
+        CommandFuture<T> future = new CommandFuture<>(task, completions);
+        execute(key(server), future);
+        return future;
+    }
+
+    /**
+     * Submit task for execution on shared worker threads bypassing lanes.
+     * <p/>
+     * @param task Task to be executed.
+     * @return Future completed with result of asynchronous execution.
+     */
+    <T> CommandFuture<T> submit(final Callable<T> task) {
+        updatePoolSize();
+        CommandFuture<T> future = new CommandFuture<>(task, completions);
+        workers.execute(future);
+        return future;
+    }
+
+    /**
+     * Execute task in lane with given key.
+     * <p/>
+     * @param key  Lane key (<code>host:port</code>).
+     * @param task Task to be executed.
+     */
+    void execute(final String key, final Runnable task) {
+        updatePoolSize();
+        synchronized (lanes) {
+            Lane lane = lanes.get(key);
+            if (lane == null) {
+                lane = new Lane(key);
+                lanes.put(key, lane);
+            }
+            lane.tasks.add(task);
+            if (!lane.scheduled) {
+                lane.scheduled = true;
+                workers.execute(lane);
+            }
+        }
+    }
+
+    /**
+     * Schedule watchdog task to be executed after given delay.
+     * <p/>
+     * Watchdog tasks must be short and must not block.
+     * <p/>
+     * @param task  Watchdog task to be executed.
+     * @param delay Delay before task execution [ms].
+     * @return Future which may be used to cancel scheduled task.
+     */
+    ScheduledFuture<?> schedule(final Runnable task, final long delay) {
+        return watchdog.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Update worker threads pool size when configured maximum number
+     * of concurrent commands was changed.
+     */
+    private void updatePoolSize() {
+        final int size = PayaraToolsConfig.getMaxConcurrentCommands();
+        if (size == workers.getMaximumPoolSize()) {
+            return;
+        }
+        synchronized (workers) {
+            if (size > workers.getMaximumPoolSize()) {
+                workers.setMaximumPoolSize(size);
+                workers.setCorePoolSize(size);
+            } else if (size < workers.getMaximumPoolSize()) {
+                workers.setCorePoolSize(size);
+                workers.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,355 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.netbeans.modules.payara.tooling.TaskState;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Payara server administration commands metrics registry.
+ * <p/>
+ * Every administration command execution is recorded by
+ * <code>Runner</code> with its Payara server (host and administration port)
+ * and command class as key. Registry is exposed in platform MBean server
+ * trough {@link AdminMetricsMXBean} interface.
+ */
+public class AdminMetrics implements AdminMetricsMXBean {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Metrics of administration commands of one class executed
+     * on one Payara server.
+     */
+    private static class Recorder {
+
+        /** Payara server (<code>host:port</code>). */
+        private final String server;
+
+        /** Administration command class name. */
+        private final String command;
+
+        /** Number of executions. */
+        private final LongAdder calls = new LongAdder();
+
+        /** Number of failed executions. */
+        private final LongAdder errors = new LongAdder();
+
+        /** Number of retried attempts. */
+        private final LongAdder retries = new LongAdder();
+
+        /** Bytes received from server. */
+        private final LongAdder bytesIn = new LongAdder();
+
+        /** Bytes sent to server. */
+        private final LongAdder bytesOut = new LongAdder();
+
+        /** Sum of execution latencies [ms]. */
+        private final LongAdder totalLatency = new LongAdder();
+
+        /** Maximal execution latency [ms]. */
+        private final AtomicLong maxLatency = new AtomicLong();
+
+        /** Execution latency histogram. */
+        private final AtomicLongArray histogram
+                = new AtomicLongArray(LATENCY_BUCKETS.length);
+
+        /**
+         * Creates an instance of administration commands metrics.
+         * <p/>
+         * @param server  Payara server (<code>host:port</code>).
+         * @param command Administration command class name.
+         */
+        private Recorder(final String server, final String command) {
+            this.server = server;
+            this.command = command;
+        }
+
+        /**
+         * Record administration command execution.
+         * <p/>
+         * @param failed   Command execution failed.
+         * @param retried  Number of retried attempts.
+         * @param received Bytes received from server.
+         * @param sent     Bytes sent to server.
+         * @param latency  Execution latency [ms].
+         */
+        private void record(final boolean failed, final int retried,
+                final long received, final long sent, final long latency) {
+            calls.increment();
+            if (failed) {
+                errors.increment();
+            }
+            retries.add(retried);
+            bytesIn.add(received);
+            bytesOut.add(sent);
+            totalLatency.add(latency);
+            long max = maxLatency.get();
+            while (latency > max && !maxLatency.compareAndSet(max, latency)) {
+                max = maxLatency.get();
+            }
+            histogram.incrementAndGet(bucket(latency));
+        }
+
+        /**
+         * Build metrics snapshot.
+         * <p/>
+         * @return Metrics snapshot.
+         */
+        private CommandMetrics snapshot() {
+            final long[] counts = new long[histogram.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = histogram.get(i);
+            }
+            return new CommandMetrics(server, command, calls.sum(),
+                    errors.sum(), retries.sum(), bytesIn.sum(),
+                    bytesOut.sum(), totalLatency.sum(), maxLatency.get(),
+                    counts);
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(AdminMetrics.class);
+
+    /** Name of metrics registry in platform MBean server. */
+    static final String OBJECT_NAME
+            = "org.netbeans.modules.payara.tooling:type=AdminMetrics";
+
+    /** Upper bounds of latency histogram buckets [ms]. Last bucket
+     *  holds all longer executions. */
+    static final long[] LATENCY_BUCKETS = {
+        1, 2, 5, 10, 20, 50, 100, 200, 500,
+        1000, 2000, 5000, 10000, 30000, 60000, Long.MAX_VALUE
+    };
+
+    /** Singleton instance of this class. */
+    private static volatile AdminMetrics instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get singleton instance of metrics registry. Registry is registered
+     * in platform MBean server when created.
+     * <p/>
+     * @return Singleton instance of metrics registry.
+     */
+    public static AdminMetrics getInstance() {
+        if (instance == null) {
+            synchronized (AdminMetrics.class) {
+                if (instance == null) {
+                    instance = new AdminMetrics();
+                    instance.register();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Get latency histogram bucket index of given latency.
+     * <p/>
+     * @param latency Execution latency [ms].
+     * @return Latency histogram bucket index.
+     */
+    private static int bucket(final long latency) {
+        int i = 0;
+        while (latency > LATENCY_BUCKETS[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Metrics of individual server and command class pairs. */
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of administration commands metrics registry.
+     */
+    private AdminMetrics() {
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Implemented Interface Methods                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get metrics of administration commands executed on individual servers.
+     * <p/>
+     * @return Metrics of every server and command class pair.
+     */
+    @Override
+    public List<CommandMetrics> getCommandMetrics() {
+        final List<CommandMetrics> metrics
+                = new ArrayList<>(recorders.size());
+        for (Recorder recorder : recorders.values()) {
+            metrics.add(recorder.snapshot());
+        }
+        return metrics;
+    }
+
+    /**
+     * Get number of all executed administration commands.
+     * <p/>
+     * @return Number of all executed administration commands.
+     */
+    @Override
+    public long getCalls() {
+        long calls = 0;
+        for (Recorder recorder : recorders.values()) {
+            calls += recorder.calls.sum();
+        }
+        return calls;
+    }
+
+    /**
+     * Get number of all failed administration commands.
+     * <p/>
+     * @return Number of all failed administration commands.
+     */
+    @Override
+    public long getErrors() {
+        long errors = 0;
+        for (Recorder recorder : recorders.values()) {
+            errors += recorder.errors.sum();
+        }
+        return errors;
+    }
+
+    /**
+     * Get upper bounds of latency histogram buckets.
+     * <p/>
+     * @return Latency histogram buckets upper bounds [ms].
+     */
+    @Override
+    public long[] getLatencyBuckets() {
+        return LATENCY_BUCKETS.clone();
+    }
+
+    /**
+     * Discard all collected metrics.
+     */
+    @Override
+    public void reset() {
+        recorders.clear();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Record administration command execution.
+     * <p/>
+     * @param server   Payara server entity object.
+     * @param command  Executed administration command.
+     * @param result   Administration command execution result.
+     * @param retried  Number of retried attempts.
+     * @param received Bytes received from server.
+     * @param sent     Bytes sent to server.
+     * @param nanos    Execution latency [ns].
+     */
+    void record(final PayaraServer server, final Command command,
+            final Result<?> result, final int retried, final long received,
+            final long sent, final long nanos) {
+        final String serverKey = ServerUtils.adminKey(server);
+        final String commandClass = command.getClass().getName();
+        final String key = serverKey + '\n' + commandClass;
+        Recorder recorder = recorders.get(key);
+        if (recorder == null) {
+            final Recorder newRecorder = new Recorder(serverKey, commandClass);
+            recorder = recorders.putIfAbsent(key, newRecorder);
+            if (recorder == null) {
+                recorder = newRecorder;
+            }
+        }
+        recorder.record(result == null
+                || result.getState() != TaskState.COMPLETED,
+                retried, received, sent,
+                TimeUnit.NANOSECONDS.toMillis(nanos));
+    }
+
+    /**
+     * Register this registry in platform MBean server.
+     */
+    private void register() {
+        final String METHOD = "register";
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    this, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException ex) {
+            LOGGER.log(Level.INFO, METHOD, "failed", ex);
+        }
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+import org.netbeans.modules.payara.tooling.utils.NetUtils;
+import org.netbeans.modules.payara.tooling.utils.PortProber;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Payara server administration interface circuit breaker.
+ * <p/>
+ * Every Payara server (host and administration port) has its own breaker.
+ * Breaker opens after several consecutive connection failures. Commands
+ * passed to server with open breaker fail immediately without touching
+ * the network. Administration port of such server is probed in background
+ * and breaker becomes half open when port accepts connections again.
+ * Single trial command is then passed to the server and its result decides
+ * whether breaker closes or opens again. Other commands fail immediately
+ * while trial command is running. Breaker also becomes half open when open
+ * time expired and no probe is running.
+ */
+class CircuitBreaker {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Circuit breaker state.
+     */
+    enum State {
+        /** Commands are passed to the server. */
+        CLOSED,
+        /** Commands fail immediately. */
+        OPEN,
+        /** Single command is passed to the server on trial. */
+        HALF_OPEN;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(CircuitBreaker.class);
+
+    /** Number of consecutive connection failures which opens the breaker. */
+    static final int FAILURE_THRESHOLD = 3;
+
+    /** Initial open time of the breaker [ms]. */
+    static final long MIN_OPEN_TIME = 1000;
+
+    /** Maximal open time of the breaker [ms]. Open time is doubled
+     *  every time half open breaker opens again. */
+    static final long MAX_OPEN_TIME = 10000;
+
+    /** Breaker stops background probes when no command was passed
+     *  to the server for this time [ms]. */
+    static final long PROBE_IDLE_TIME = 60000;
+
+    /** Circuit breakers of individual Payara servers. */
+    private static final Map<String, CircuitBreaker> breakers
+            = new ConcurrentHashMap<>();
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get circuit breaker of given Payara server. New breaker is created
+     * when server has none yet.
+     * <p/>
+     * @param server Payara server entity object.
+     * @return Circuit breaker of Payara server.
+     */
+    static CircuitBreaker get(final PayaraServer server) {
+        final String key = ServerUtils.adminKey(server);
+        CircuitBreaker breaker = breakers.get(key);
+        if (breaker == null) {
+            final CircuitBreaker newBreaker = new CircuitBreaker(
+                    key, server.getHost(), server.getAdminPort());
+            breaker = breakers.putIfAbsent(key, newBreaker);
+            if (breaker == null) {
+                breaker = newBreaker;
+            }
+        }
+        return breaker;
+    }
+
+    /**
+     * Remove circuit breaker of given Payara server so next command
+     * is passed to the server regardless of previous failures.
+     * <p/>
+     * @param server Payara server entity object.
+     */
+    static void reset(final PayaraServer server) {
+        breakers.remove(ServerUtils.adminKey(server));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Breaker key (<code>host:port</code>). */
+    private final String key;
+
+    /** Payara server host. */
+    private final String host;
+
+    /** Payara server administration port. */
+    private final int port;
+
+    /** Breaker state. Guarded by <code>this</code>. */
+    private State state;
+
+    /** Number of consecutive connection failures. Guarded
+     *  by <code>this</code>. */
+    private int failures;
+
+    /** Current open time [ms]. Guarded by <code>this</code>. */
+    private long openTime;
+
+    /** Time when open breaker becomes half open [ms since epoch].
+     *  Guarded by <code>this</code>. */
+    private long openUntil;
+
+    /** Time of last command passed to the breaker [ms since epoch].
+     *  Guarded by <code>this</code>. */
+    private long lastRequest;
+
+    /** Background probe is scheduled. Guarded by <code>this</code>. */
+    private boolean probing;
+
+    /** Trial command of half open breaker is running. Guarded
+     *  by <code>this</code>. */
+    private boolean trial;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of Payara server circuit breaker.
+     * <p/>
+     * @param key  Breaker key (<code>host:port</code>).
+     * @param host Payara server host.
+     * @param port Payara server administration port.
+     */
+    private CircuitBreaker(final String key, final String host,
+            final int port) {
+        this.key = key;
+        this.host = host;
+        this.port = port;
+        this.state = State.CLOSED;
+        this.failures = 0;
+        this.openTime = MIN_OPEN_TIME;
+        this.probing = false;
+        this.trial = false;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get breaker state.
+     * <p/>
+     * @return Breaker state.
+     */
+    synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Check whether command may be passed to the server.
+     * <p/>
+     * Only one trial command is passed to the server while breaker is half
+     * open. Trial command must call {@link #trialFinished()} when finished.
+     * <p/>
+     * @return {@link State#CLOSED} when command may be passed to the server,
+     *         {@link State#HALF_OPEN} when command is passed to the server
+     *         on trial or {@link State#OPEN} when it shall fail immediately.
+     */
+    synchronized State allowRequest() {
+        final long now = System.currentTimeMillis();
+        lastRequest = now;
+        if (state == State.OPEN && !probing && now >= openUntil) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trial) {
+                return State.OPEN;
+            }
+            trial = true;
+        }
+        return state;
+    }
+
+    /**
+     * Record that trial command finished. Next command may be passed
+     * to the server on trial when trial command did not decide breaker
+     * state, e.g. when it was aborted.
+     */
+    synchronized void trialFinished() {
+        trial = false;
+    }
+
+    /**
+     * Record that server responded to the command.
+     */
+    synchronized void recordSuccess() {
+        final String METHOD = "recordSuccess";
+        if (state != State.CLOSED) {
+            LOGGER.log(Level.INFO, METHOD, "close", key);
+        }
+        state = State.CLOSED;
+        trial = false;
+        failures = 0;
+        openTime = MIN_OPEN_TIME;
+    }
+
+    /**
+     * Record that connection to the server could not be established.
+     */
+    synchronized void recordFailure() {
+        failures++;
+        if (state == State.HALF_OPEN) {
+            openTime = Math.min(openTime * 2, MAX_OPEN_TIME);
+            open();
+        } else if (state == State.CLOSED && failures >= FAILURE_THRESHOLD) {
+            open();
+        }
+    }
+
+    /**
+     * Open the breaker and start background probe of administration port.
+     * Must be called while holding <code>this</code> lock.
+     */
+    private void open() {
+        final String METHOD = "open";
+        LOGGER.log(Level.INFO, METHOD, "open",
+                new Object[] {key, Long.toString(openTime)});
+        state = State.OPEN;
+        trial = false;
+        openUntil = System.currentTimeMillis() + openTime;
+        if (!probing) {
+            probing = true;
+            scheduleProbe();
+        }
+    }
+
+    /**
+     * Schedule background probe of administration port after current
+     * open time. Probe is handled by shared port prober so no lane
+     * of administration commands executor is blocked.
+     */
+    private void scheduleProbe() {
+        AdminLaneExecutor.getInstance().schedule(new Runnable() {
+            @Override
+            public void run() {
+                PortProber.getInstance().probe(host, port,
+                        NetUtils.PORT_CHECK_TIMEOUT,
+                        new PortProber.Listener() {
+                    @Override
+                    public void probed(final boolean listening,
+                            final IOException failure) {
+                        probe(listening);
+                    }
+                });
+            }
+        }, openTime);
+    }
+
+    /**
+     * Evaluate administration port probe of open breaker's server.
+     * Breaker becomes half open when port accepts connections. Probing
+     * stops when no commands are passed to the server.
+     * <p/>
+     * @param listening Administration port accepts connections.
+     */
+    private void probe(final boolean listening) {
+        final String METHOD = "probe";
+        synchronized (this) {
+            if (state != State.OPEN) {
+                probing = false;
+            } else if (listening) {
+                LOGGER.log(Level.FINE, METHOD, "halfOpen", key);
+                state = State.HALF_OPEN;
+                probing = false;
+            } else if (System.currentTimeMillis() - lastRequest
+                    > PROBE_IDLE_TIME) {
+                probing = false;
+            } else {
+                openUntil = System.currentTimeMillis() + openTime;
+                scheduleProbe();
+            }
+        }
+    }
+
+}
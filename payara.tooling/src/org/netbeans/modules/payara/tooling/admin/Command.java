@@ -50,6 +50,17 @@ package org.netbeans.modules.payara.tooling.admin;
  */
 public abstract class Command {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Default administration command execution timeout [ms]. */
+    public static final long DEFAULT_TIMEOUT = 120000;
+
+    /** Read-only commands reading deployed applications. */
+    protected static final Class<?>[] APPLICATION_READS
+            = CommandResultCache.APPLICATION_READS;
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -60,6 +71,10 @@ public abstract class Command {
     /** Indicate whether we shall retry command execution. */
     protected boolean retry = false;
 
+    /** Administration command execution timeout [ms] set by API user.
+     *  Value of <code>0</code> means command specific default timeout. */
+    private volatile long timeout = 0;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -102,4 +117,98 @@ public abstract class Command {
         return retry;
     }
 
+    /**
+     * Get administration command execution timeout.
+     * <p/>
+     * Timeout covers whole command execution on server: connecting,
+     * sending request and reading response. Command is aborted when
+     * timeout expires.
+     * <p/>
+     * @return Administration command execution timeout [ms].
+     */
+    public long getTimeout() {
+        final long value = timeout;
+        return value > 0 ? value : defaultTimeout();
+    }
+
+    /**
+     * Set administration command execution timeout.
+     * <p/>
+     * @param timeout Administration command execution timeout [ms].
+     *                Value of <code>0</code> restores command specific
+     *                default timeout.
+     * @throws IllegalArgumentException when timeout is negative.
+     */
+    public void setTimeout(final long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException(
+                    "Command timeout must not be negative: " + timeout);
+        }
+        this.timeout = timeout;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * Commands which are known to finish quickly or to take long time
+     * on server side override this method.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    protected long defaultTimeout() {
+        return DEFAULT_TIMEOUT;
+    }
+
+    /**
+     * Check whether this command may be safely executed more than once.
+     * <p/>
+     * Only read-only commands are idempotent. Commands changing server state
+     * must not be repeated after I/O failure because server may have already
+     * processed them. Cacheable commands are read-only by definition.
+     * <p/>
+     * @return Value of <code>true</code> when command execution may be
+     *         repeated or <code>false</code> otherwise.
+     */
+    public boolean isIdempotent() {
+        return cacheQuery() != null;
+    }
+
+    /**
+     * Get query identifying result of this command in administration command
+     * results cache.
+     * <p/>
+     * Read-only commands which results may be cached override this method.
+     * <p/>
+     * @return Query identifying cached result or <code>null</code> when
+     *         result of this command must not be cached.
+     */
+    String cacheQuery() {
+        return null;
+    }
+
+    /**
+     * Get time to live of cached result of this command.
+     * <p/>
+     * @return Time to live of cached result [ms].
+     */
+    long cacheTtl() {
+        return 0;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * Mutating commands override this method.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.NO_READS;
+    }
+
 }
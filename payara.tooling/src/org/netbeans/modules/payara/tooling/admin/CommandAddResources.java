@@ -151,4 +151,20 @@ public class CommandAddResources extends CommandTarget {
         super(COMMAND, target);
         xmlResFile = xmlResourceFile;
     }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.RESOURCE_READS;
+    }
+
 }
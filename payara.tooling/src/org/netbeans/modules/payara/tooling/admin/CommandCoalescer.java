@@ -0,0 +1,324 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Coalescing of identical in-flight read-only administration commands.
+ * <p/>
+ * Read-only command (command with non <code>null</code>
+ * {@link Command#cacheQuery()}) passed to the server while identical command
+ * is still being executed does not cause new HTTP exchange. Caller
+ * subscribes to the command in flight and receives its result.
+ * <p/>
+ * Every caller gets its own future. Cancelling it unsubscribes the caller.
+ * Underlying command is cancelled only when all callers cancelled their
+ * futures.
+ * <p/>
+ * Mutating command (command with non empty {@link Command#invalidates()})
+ * submitted to the server closes all server's commands in flight so read-only
+ * commands submitted after it never receive result read before it.
+ * <p/>
+ * Coalescer is implemented as singleton.
+ */
+class CommandCoalescer {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Administration command in flight shared by all subscribed callers.
+     */
+    private final class Flight implements BiConsumer<Result<?>, Throwable> {
+
+        /** Command key. */
+        private final String key;
+
+        /** Future of command being executed. */
+        private final CompletableFuture<? extends Result<?>> command;
+
+        /** Number of subscribed callers. Guarded by <code>flights</code>. */
+        private int subscribers;
+
+        /**
+         * Constructs an instance of administration command in flight.
+         * <p/>
+         * @param key     Command key.
+         * @param command Future of command being executed.
+         */
+        private Flight(final String key,
+                final CompletableFuture<? extends Result<?>> command) {
+            this.key = key;
+            this.command = command;
+            this.subscribers = 0;
+        }
+
+        /**
+         * Subscribe new caller to this command. Caller should hold
+         * <code>flights</code> lock.
+         * <p/>
+         * @return Future completed with command execution result.
+         */
+        private CompletableFuture<Result<?>> subscribe() {
+            final Subscriber subscriber = new Subscriber(this);
+            subscribers++;
+            command.whenComplete(new BiConsumer<Result<?>, Throwable>() {
+                @Override
+                public void accept(final Result<?> result, final Throwable t) {
+                    if (t != null) {
+                        subscriber.completeExceptionally(t);
+                    } else {
+                        subscriber.complete(result);
+                    }
+                }
+            });
+            return subscriber;
+        }
+
+        /**
+         * Unsubscribe caller from this command. Command is cancelled when
+         * last subscribed caller leaves.
+         */
+        private void unsubscribe() {
+            boolean cancel;
+            synchronized (flights) {
+                cancel = --subscribers == 0;
+                if (cancel) {
+                    flights.remove(key, this);
+                }
+            }
+            if (cancel) {
+                command.cancel(true);
+            }
+        }
+
+        /**
+         * Remove this command from commands in flight when finished.
+         * <p/>
+         * @param result Command execution result.
+         * @param t      Exception thrown by command execution.
+         */
+        @Override
+        public void accept(final Result<?> result, final Throwable t) {
+            synchronized (flights) {
+                flights.remove(key, this);
+            }
+        }
+
+    }
+
+    /**
+     * Future of single caller subscribed to command in flight.
+     */
+    private static class Subscriber extends CompletableFuture<Result<?>> {
+
+        /** Command in flight. */
+        private final Flight flight;
+
+        /**
+         * Constructs an instance of command in flight subscriber.
+         * <p/>
+         * @param flight Command in flight.
+         */
+        private Subscriber(final Flight flight) {
+            this.flight = flight;
+        }
+
+        /**
+         * Cancel this subscription.
+         * <p/>
+         * @param mayInterruptIfRunning Passed to underlying command
+         *                              when all subscribers cancelled.
+         * @return Value of <code>true</code> if this future was cancelled.
+         */
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                flight.unsubscribe();
+            }
+            return cancelled;
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Command key separator. */
+    private static final char KEY_SEPARATOR = '\n';
+
+    /** Singleton object instance. */
+    private static volatile CommandCoalescer instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return existing singleton instance of this class or create a new one
+     * when no instance exists.
+     * <p/>
+     * @return <code>CommandCoalescer</code> singleton instance.
+     */
+    static CommandCoalescer getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (CommandCoalescer.class) {
+            if (instance == null) {
+                instance = new CommandCoalescer();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Build key of administration command executed by given runner.
+     * <p/>
+     * @param runner Administration command runner.
+     * @return Command key or <code>null</code> when command is not read-only.
+     */
+    private static String key(final Runner runner) {
+        String query = runner.getCommand().cacheQuery();
+        if (query == null) {
+            return null;
+        }
+        String serverKey = ServerUtils.adminKey(runner.server);
+        String className = runner.getCommand().getClass().getName();
+        StringBuilder sb = new StringBuilder(serverKey.length()
+                + className.length() + query.length() + 2);
+        sb.append(serverKey);
+        sb.append(KEY_SEPARATOR);
+        sb.append(className);
+        sb.append(KEY_SEPARATOR);
+        sb.append(query);
+        return sb.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Commands in flight. */
+    private final Map<String, Flight> flights;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of administration commands coalescer.
+     */
+    private CommandCoalescer() {
+        flights = new HashMap<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Execute administration command or subscribe to identical command
+     * in flight.
+     * <p/>
+     * @param runner Administration command runner.
+     * @return Future completed with command execution result.
+     */
+    CompletableFuture<? extends Result<?>> execute(final Runner runner) {
+        String key = key(runner);
+        if (key == null) {
+            return runner.submit();
+        }
+        Flight flight;
+        boolean submitted = false;
+        CompletableFuture<Result<?>> subscriber;
+        synchronized (flights) {
+            flight = flights.get(key);
+            if (flight == null) {
+                flight = new Flight(key, runner.submit());
+                flights.put(key, flight);
+                submitted = true;
+            }
+            subscriber = flight.subscribe();
+        }
+        if (submitted) {
+            flight.command.whenComplete(flight);
+        }
+        return subscriber;
+    }
+
+    /**
+     * Close server's commands in flight when mutating command is submitted.
+     * <p/>
+     * Closed commands keep running for already subscribed callers but new
+     * callers can't subscribe to them anymore.
+     * <p/>
+     * @param server  Target Payara server.
+     * @param command Payara server administration command entity.
+     */
+    void mutating(final PayaraServer server, final Command command) {
+        if (command.invalidates().length == 0) {
+            return;
+        }
+        final String prefix = ServerUtils.adminKey(server) + KEY_SEPARATOR;
+        synchronized (flights) {
+            for (Iterator<String> i = flights.keySet().iterator();
+                    i.hasNext(); ) {
+                if (i.next().startsWith(prefix)) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
+}
@@ -59,6 +59,9 @@ public class CommandCreateCluster extends CommandTarget {
     /** Command string for create-cluster command. */
     private static final String COMMAND = "create-cluster";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 600000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -72,4 +75,29 @@ public class CommandCreateCluster extends CommandTarget {
         super(COMMAND, clusterName);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.ALL_READS;
+    }
+
 }
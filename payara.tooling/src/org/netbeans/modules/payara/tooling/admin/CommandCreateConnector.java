@@ -133,4 +133,19 @@ public class CommandCreateConnector extends CommandTarget {
         this(jndiName, poolName, properties, true);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.RESOURCE_READS;
+    }
+
 }
@@ -59,6 +59,9 @@ public class CommandCreateInstance extends CommandTargetName {
     /** Command string for create-instance command. */
     private static final String COMMAND = "create-instance";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 600000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -83,4 +86,29 @@ public class CommandCreateInstance extends CommandTargetName {
         this.node = node;
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.ALL_READS;
+    }
+
 }
@@ -100,5 +100,20 @@ public class CommandDeleteResource extends CommandTarget {
             String resourceCmdSuffix, String cmdPropertyName, boolean cascade) {
         this(null, name, resourceCmdSuffix, cmdPropertyName, cascade);
     }
-    
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.RESOURCE_READS;
+    }
+
 }
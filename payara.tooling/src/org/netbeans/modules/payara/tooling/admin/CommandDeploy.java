@@ -45,6 +45,7 @@ import org.netbeans.modules.payara.tooling.TaskStateListener;
 import java.io.File;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import org.netbeans.modules.payara.tooling.PayaraIdeException;
@@ -68,6 +69,9 @@ public class CommandDeploy extends CommandTargetName {
     /** Command string for deploy command. */
     private static final String COMMAND = "deploy";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 1800000;
+
     /** Error message for administration command execution exception .*/
     private static final String ERROR_MESSAGE
             = "Application deployment failed.";
@@ -101,6 +105,32 @@ public class CommandDeploy extends CommandTargetName {
         }
     }
 
+    /**
+     * Deploy application on several targets.
+     * <p/>
+     * Archive is uploaded only once by deploy command on target given
+     * in deploy command. Application references for remaining targets
+     * are then created concurrently. Listener receives state changes
+     * of deploy command and single final state after all application
+     * references were processed.
+     * <p/>
+     * @param server      Payara server entity.
+     * @param command     Deploy command for the first target.
+     * @param targets     Remaining targets where application shall be
+     *                    deployed.
+     * @param parallelism Maximum number of application references created
+     *                    at once.
+     * @param listener    Command execution events listener.
+     * @return Future completed with deploy task response.
+     */
+    public static CompletableFuture<ResultString> deployAsync(
+            final PayaraServer server, final CommandDeploy command,
+            final String[] targets, final int parallelism,
+            final TaskStateListener listener) {
+        return new TargetsDeploy(server, command, targets, parallelism,
+                listener).execute();
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -120,6 +150,16 @@ public class CommandDeploy extends CommandTargetName {
     /** Is this deployment of a directory? */
     final boolean dirDeploy;
 
+    /** Digest of deployed archive content and deployment arguments
+     *  or <code>null</code> when not computed. */
+    volatile String digest;
+
+    /** Unchanged archive may be redeployed without upload. */
+    volatile boolean redeployUnchanged = true;
+
+    /** Statistics of last command execution attempt. */
+    volatile DeployStatistics statistics;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -146,4 +186,55 @@ public class CommandDeploy extends CommandTargetName {
         this.dirDeploy = path.isDirectory();
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get statistics of last execution attempt of this command.
+     * <p/>
+     * @return Deploy command execution statistics or <code>null</code>
+     *         when command was not executed yet.
+     */
+    public DeployStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Get name of deployed application.
+     * <p/>
+     * Server uses archive file name without suffix when no name is given.
+     * <p/>
+     * @return Name of deployed application.
+     */
+    String applicationName() {
+        if (name != null) {
+            return name;
+        }
+        final String fileName = path.getName();
+        final int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.APPLICATION_READS;
+    }
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
 }
@@ -0,0 +1,198 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Asynchronous Payara server administration command execution.
+ * <p/>
+ * Future is completed when command execution finishes so callers may compose
+ * administration command results without blocking a thread in
+ * {@link #get()}. When completion executor is provided, future is completed
+ * and dependent stages are run on its thread so thread which executed
+ * the command is released for next command immediately. Cancellation of running command interrupts executing
+ * thread and aborts command's connection to the server so thread blocked
+ * in network operation is released immediately.
+ * <p/>
+ * @param <T> Administration command execution result type.
+ */
+class CommandFuture<T> extends CompletableFuture<T> implements Runnable {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Administration command to be executed. */
+    private final Callable<T> task;
+
+    /** Executor completing this future or <code>null</code> to complete
+     *  it by thread which executed the command. */
+    private final Executor completion;
+
+    /** Thread executing the command or <code>null</code> when command
+     *  is not running. Guarded by <code>this</code>. */
+    private Thread runner;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of asynchronous administration command
+     * execution.
+     * <p/>
+     * @param task Administration command to be executed.
+     */
+    CommandFuture(final Callable<T> task) {
+        this(task, null);
+    }
+
+    /**
+     * Constructs an instance of asynchronous administration command
+     * execution completed using given executor.
+     * <p/>
+     * @param task       Administration command to be executed.
+     * @param completion Executor completing this future and running
+     *                   its dependent stages.
+     */
+    CommandFuture(final Callable<T> task, final Executor completion) {
+        this.task = task;
+        this.completion = completion;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Execute administration command and complete this future with its
+     * result. Command which was already cancelled is not executed.
+     */
+    @Override
+    public void run() {
+        if (isDone()) {
+            return;
+        }
+        synchronized (this) {
+            runner = Thread.currentThread();
+        }
+        T value = null;
+        Throwable failure = null;
+        try {
+            value = task.call();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            synchronized (this) {
+                runner = null;
+                // Clear interrupt caused by cancel() so it does not leak
+                // into next task executed by this thread.
+                Thread.interrupted();
+            }
+        }
+        finish(value, failure);
+    }
+
+    /**
+     * Complete this future with administration command execution result
+     * using completion executor when provided.
+     * <p/>
+     * @param value   Administration command execution result.
+     * @param failure Exception thrown by administration command
+     *                or <code>null</code> when command finished normally.
+     */
+    private void finish(final T value, final Throwable failure) {
+        if (completion == null) {
+            complete(value, failure);
+            return;
+        }
+        completion.execute(new Runnable() {
+            @Override
+            public void run() {
+                complete(value, failure);
+            }
+        });
+    }
+
+    /**
+     * Complete this future with result or exception.
+     * <p/>
+     * @param value   Administration command execution result.
+     * @param failure Exception thrown by administration command
+     *                or <code>null</code> when command finished normally.
+     */
+    private void complete(final T value, final Throwable failure) {
+        if (failure != null) {
+            completeExceptionally(failure);
+        } else {
+            complete(value);
+        }
+    }
+
+    /**
+     * Attempt to cancel execution of administration command.
+     * <p/>
+     * @param mayInterruptIfRunning Interrupt thread executing the command
+     *                              when <code>true</code>.
+     * @return Value of <code>true</code> if this future was cancelled.
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        if (cancelled && mayInterruptIfRunning) {
+            if (task instanceof Runner) {
+                ((Runner)task).abort();
+            }
+            synchronized (this) {
+                if (runner != null) {
+                    runner.interrupt();
+                }
+            }
+        }
+        return cancelled;
+    }
+
+}
@@ -49,6 +49,9 @@ import org.netbeans.modules.payara.tooling.data.PayaraServer;
 /**
  * Command that retrieves property (properties) from server.
  * <p/>
+ * Command may contain several property patterns. Properties matching any
+ * of them are returned in single merged map retrieved in one request.
+ * <p/>
  * @author Tomas Kraus, Peter Benedikovic
  */
 @RunnerHttpClass(runner=RunnerHttpGetProperty.class)
@@ -64,14 +67,23 @@ public class CommandGetProperty extends Command {
 
     /** Command string for create-cluster command. */
     private static final String COMMAND = "get";
+
+    /** Time to live of cached command result [ms]. */
+    private static final long CACHE_TTL = 5000;
+
+    /** Get command <code>pattern</code> param name. */
+    private static final String PATTERN_PARAM = "pattern";
+
+    /** Separator of patterns in cache query and error messages. */
+    private static final char PATTERNS_SEPARATOR = ',';
     
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
     
-    /** Pattern that defines properties to retrieve. */
-    String propertyPattern;
-    
+    /** Patterns that define properties to retrieve. */
+    final String[] propertyPatterns;
+
 
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
@@ -136,6 +148,58 @@ public class CommandGetProperty extends Command {
 
     }
 
+    /**
+     * Retrieve properties matching any of provided patterns from server
+     * in single request with timeout.
+     * <p/>
+     * @param server           Payara server entity.
+     * @param propertyPatterns Patterns that define properties to retrieve.
+     * @param timeout          Administration command execution timeout [ms].
+     * @return Payara command result containing merged map with key-value
+     *         pairs returned by server.
+     * @throws PayaraIdeException When error occurred during administration
+     *         command execution.
+     */
+    public static ResultMap<String, String> getProperties(
+            final PayaraServer server, final String[] propertyPatterns,
+            final long timeout)
+            throws PayaraIdeException {
+        final String METHOD = "getProperties";
+        final CommandGetProperty command
+                = new CommandGetProperty(propertyPatterns);
+        Future<ResultMap<String, String>> future =
+                ServerAdmin.<ResultMap<String, String>>exec(server, command);
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | InterruptedException
+                | CancellationException ee) {
+            throw new PayaraIdeException(LOGGER.excMsg(
+                    METHOD, "exception", command.cacheQuery()), ee);
+        } catch (TimeoutException te) {
+            throw new PayaraIdeException(
+                    LOGGER.excMsg(METHOD, "exceptionWithTimeout",
+                    command.cacheQuery(), Long.toString(timeout)), te);
+        }
+    }
+
+    /**
+     * Retrieve properties from server asynchronously.
+     * <p/>
+     * Properties matching any of provided patterns are retrieved in single
+     * request.
+     * <p/>
+     * @param server           Payara server entity.
+     * @param propertyPatterns Patterns that define properties to retrieve.
+     * @return Future completed with Payara command result containing merged
+     *         map with key-value pairs returned by server.
+     */
+    public static CompletableFuture<ResultMap<String, String>>
+            getPropertiesAsync(final PayaraServer server,
+            final String... propertyPatterns) {
+        return ServerAdmin.<ResultMap<String, String>>execAsync(
+                server, new CommandGetProperty(propertyPatterns));
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -143,10 +207,65 @@ public class CommandGetProperty extends Command {
     /**
      * Constructs an instance of Payara server get property command entity.
      * <p/>
-     * @param property Pattern that defines property tor retrieve.
+     * @param properties Patterns that define properties to retrieve.
      */
-    public CommandGetProperty(final String property) {
+    public CommandGetProperty(final String... properties) {
         super(COMMAND);
-        propertyPattern = property;
+        propertyPatterns = properties;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Build get command parameters containing all property patterns.
+     * <p/>
+     * @return Parameters string with <code>pattern</code> parameter
+     *         for each property pattern.
+     */
+    String patternParams() {
+        StringBuilder sb = new StringBuilder();
+        if (propertyPatterns != null) {
+            for (String pattern : propertyPatterns) {
+                if (sb.length() > 0) {
+                    sb.append(Runner.PARAM_SEPARATOR);
+                }
+                sb.append(PATTERN_PARAM).append(Runner.PARAM_ASSIGN_VALUE);
+                sb.append(pattern);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Get query identifying result of this command in administration command
+     * results cache.
+     * <p/>
+     * @return Property patterns separated by comma.
+     */
+    @Override
+    String cacheQuery() {
+        StringBuilder sb = new StringBuilder();
+        if (propertyPatterns != null) {
+            for (String pattern : propertyPatterns) {
+                if (sb.length() > 0) {
+                    sb.append(PATTERNS_SEPARATOR);
+                }
+                sb.append(pattern);
+            }
+        }
+        return sb.toString();
     }
+
+    /**
+     * Get time to live of cached result of this command.
+     * <p/>
+     * @return Time to live of cached result [ms].
+     */
+    @Override
+    long cacheTtl() {
+        return CACHE_TTL;
+    }
+
 }
@@ -43,6 +43,7 @@ package org.netbeans.modules.payara.tooling.admin;
 
 import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import org.netbeans.modules.payara.tooling.PayaraIdeException;
@@ -67,6 +68,9 @@ public class CommandListComponents extends CommandTarget {
     /** Error message for administration command execution exception .*/
     private static final String ERROR_MESSAGE = "List components failed.";
 
+    /** Time to live of cached command result [ms]. */
+    private static final long CACHE_TTL = 5000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
@@ -94,6 +98,20 @@ public class CommandListComponents extends CommandTarget {
         }
     }
 
+    /**
+     * List components asynchronously.
+     * <p/>
+     * @param server Payara server entity.
+     * @param target Target server instance or cluster.
+     * @return Future completed with list components task response.
+     */
+    public static CompletableFuture<ResultMap<String, List<String>>>
+            listComponentsAsync(final PayaraServer server,
+            final String target) {
+        return ServerAdmin.<ResultMap<String, List<String>>>execAsync(
+                server, new CommandListComponents(target));
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -108,4 +126,29 @@ public class CommandListComponents extends CommandTarget {
         super(COMMAND, target);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get query identifying result of this command in administration command
+     * results cache.
+     * <p/>
+     * @return Target server instance or cluster.
+     */
+    @Override
+    String cacheQuery() {
+        return target != null ? target : "";
+    }
+
+    /**
+     * Get time to live of cached result of this command.
+     * <p/>
+     * @return Time to live of cached result [ms].
+     */
+    @Override
+    long cacheTtl() {
+        return CACHE_TTL;
+    }
+
 }
@@ -72,6 +72,9 @@ public class CommandListResources extends CommandTarget {
      *  HTTP command. */
     private static final String COMMAND_SUFFIX = "s";
 
+    /** Time to live of cached command result [ms]. */
+    private static final long CACHE_TTL = 10000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
@@ -135,4 +138,30 @@ public class CommandListResources extends CommandTarget {
     public CommandListResources(final String command, final String target) {
         super(command, target);
     }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get query identifying result of this command in administration command
+     * results cache.
+     * <p/>
+     * @return Resource listing command with target.
+     */
+    @Override
+    String cacheQuery() {
+        return target != null ? command + ' ' + target : command;
+    }
+
+    /**
+     * Get time to live of cached result of this command.
+     * <p/>
+     * @return Time to live of cached result [ms].
+     */
+    @Override
+    long cacheTtl() {
+        return CACHE_TTL;
+    }
+
 }
@@ -57,6 +57,9 @@ public class CommandListWebServices  extends Command {
     /** Command string for list web services command. */
     private static final String COMMAND = "__list-webservices";
 
+    /** Time to live of cached command result [ms]. */
+    private static final long CACHE_TTL = 10000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -69,4 +72,29 @@ public class CommandListWebServices  extends Command {
         super(COMMAND);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get query identifying result of this command in administration command
+     * results cache.
+     * <p/>
+     * @return Empty query, command has no arguments.
+     */
+    @Override
+    String cacheQuery() {
+        return "";
+    }
+
+    /**
+     * Get time to live of cached result of this command.
+     * <p/>
+     * @return Time to live of cached result [ms].
+     */
+    @Override
+    long cacheTtl() {
+        return CACHE_TTL;
+    }
+
 }
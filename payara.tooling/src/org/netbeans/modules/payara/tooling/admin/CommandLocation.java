@@ -71,6 +71,9 @@ public class CommandLocation extends Command {
     /** Command string for location command. */
     private static final String COMMAND = "__locations";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 15000;
+
     /** Result key to retrieve <code>Domain-Root</code> value. */
     public static final String DOMAIN_ROOT_RESULT_KEY = "Domain-Root_value";
 
@@ -126,4 +129,29 @@ public class CommandLocation extends Command {
         super(COMMAND);
     }
     
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Locations query is read-only so it may be safely repeated.
+     * <p/>
+     * @return Value of <code>true</code>.
+     */
+    @Override
+    public boolean isIdempotent() {
+        return true;
+    }
+
 }
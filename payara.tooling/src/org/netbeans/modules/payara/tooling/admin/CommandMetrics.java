@@ -0,0 +1,272 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+/**
+ * Metrics snapshot of administration commands of one class executed
+ * on one Payara server.
+ */
+public class CommandMetrics {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Payara server (<code>host:port</code>). */
+    private final String server;
+
+    /** Administration command class name. */
+    private final String command;
+
+    /** Number of executions. */
+    private final long calls;
+
+    /** Number of failed executions. */
+    private final long errors;
+
+    /** Number of retried attempts. */
+    private final long retries;
+
+    /** Bytes received from server. */
+    private final long bytesIn;
+
+    /** Bytes sent to server. */
+    private final long bytesOut;
+
+    /** Sum of execution latencies [ms]. */
+    private final long totalLatency;
+
+    /** Maximal execution latency [ms]. */
+    private final long maxLatency;
+
+    /** Execution latency histogram. */
+    private final long[] histogram;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of administration commands metrics snapshot.
+     * <p/>
+     * @param server       Payara server (<code>host:port</code>).
+     * @param command      Administration command class name.
+     * @param calls        Number of executions.
+     * @param errors       Number of failed executions.
+     * @param retries      Number of retried attempts.
+     * @param bytesIn      Bytes received from server.
+     * @param bytesOut     Bytes sent to server.
+     * @param totalLatency Sum of execution latencies [ms].
+     * @param maxLatency   Maximal execution latency [ms].
+     * @param histogram    Execution latency histogram with buckets given
+     *                     by {@link AdminMetrics#LATENCY_BUCKETS}.
+     */
+    CommandMetrics(final String server, final String command,
+            final long calls, final long errors, final long retries,
+            final long bytesIn, final long bytesOut, final long totalLatency,
+            final long maxLatency, final long[] histogram) {
+        this.server = server;
+        this.command = command;
+        this.calls = calls;
+        this.errors = errors;
+        this.retries = retries;
+        this.bytesIn = bytesIn;
+        this.bytesOut = bytesOut;
+        this.totalLatency = totalLatency;
+        this.maxLatency = maxLatency;
+        this.histogram = histogram;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get Payara server.
+     * <p/>
+     * @return Payara server (<code>host:port</code>).
+     */
+    public String getServer() {
+        return server;
+    }
+
+    /**
+     * Get administration command class name.
+     * <p/>
+     * @return Administration command class name.
+     */
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Get number of executions.
+     * <p/>
+     * @return Number of executions.
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Get number of failed executions.
+     * <p/>
+     * @return Number of failed executions.
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Get number of retried attempts.
+     * <p/>
+     * @return Number of retried attempts.
+     */
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * Get number of bytes received from server.
+     * <p/>
+     * @return Bytes received from server.
+     */
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    /**
+     * Get number of bytes sent to server in request bodies.
+     * <p/>
+     * @return Bytes sent to server.
+     */
+    public long getBytesOut() {
+        return bytesOut;
+    }
+
+    /**
+     * Get mean execution latency.
+     * <p/>
+     * @return Mean execution latency [ms].
+     */
+    public long getMeanLatency() {
+        return calls > 0 ? totalLatency / calls : 0;
+    }
+
+    /**
+     * Get maximal execution latency.
+     * <p/>
+     * @return Maximal execution latency [ms].
+     */
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    /**
+     * Get median execution latency estimated from latency histogram.
+     * <p/>
+     * @return Median execution latency upper bound [ms].
+     */
+    public long getLatencyP50() {
+        return percentile(50);
+    }
+
+    /**
+     * Get 90th percentile of execution latency estimated from latency
+     * histogram.
+     * <p/>
+     * @return 90th percentile of execution latency upper bound [ms].
+     */
+    public long getLatencyP90() {
+        return percentile(90);
+    }
+
+    /**
+     * Get 99th percentile of execution latency estimated from latency
+     * histogram.
+     * <p/>
+     * @return 99th percentile of execution latency upper bound [ms].
+     */
+    public long getLatencyP99() {
+        return percentile(99);
+    }
+
+    /**
+     * Get execution latency histogram.
+     * <p/>
+     * @return Number of executions in every latency bucket given
+     *         by {@link AdminMetricsMXBean#getLatencyBuckets()}.
+     */
+    public long[] getLatencyHistogram() {
+        return histogram.clone();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Estimate execution latency percentile from latency histogram.
+     * <p/>
+     * Upper bound of bucket containing requested percentile is returned.
+     * Maximal latency is returned for the last bucket.
+     * <p/>
+     * @param percent Requested percentile.
+     * @return Execution latency percentile upper bound [ms].
+     */
+    private long percentile(final int percent) {
+        if (calls == 0) {
+            return 0;
+        }
+        final long rank = (calls * percent + 99) / 100;
+        long cumulative = 0;
+        for (int i = 0; i < histogram.length - 1; i++) {
+            cumulative += histogram[i];
+            if (cumulative >= rank) {
+                return Math.min(AdminMetrics.LATENCY_BUCKETS[i], maxLatency);
+            }
+        }
+        return maxLatency;
+    }
+
+}
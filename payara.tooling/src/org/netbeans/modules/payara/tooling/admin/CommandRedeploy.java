@@ -52,7 +52,7 @@ import java.util.Map;
  * @author Tomas Kraus, Peter Benedikovic
  */
 @RunnerHttpClass(runner=RunnerHttpRedeploy.class)
-@RunnerRestClass(runner=RunnerRestDeploy.class)
+@RunnerRestClass(runner=RunnerRestRedeploy.class)
 public class CommandRedeploy extends CommandTargetName {
 
     ////////////////////////////////////////////////////////////////////////////
@@ -62,6 +62,9 @@ public class CommandRedeploy extends CommandTargetName {
     /** Command string for deploy command. */
     private static final String COMMAND = "redeploy";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 1800000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -78,6 +81,10 @@ public class CommandRedeploy extends CommandTargetName {
     /** Keep state. */
     final boolean keepState;
 
+    /** Deployment executed when this command substituted for it fails
+     *  or <code>null</code> when there is no such deployment. */
+    volatile CommandDeploy fallback;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -103,4 +110,29 @@ public class CommandRedeploy extends CommandTargetName {
         this.keepState = keepState;
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.APPLICATION_READS;
+    }
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
 }
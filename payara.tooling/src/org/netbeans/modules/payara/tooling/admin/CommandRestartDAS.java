@@ -65,6 +65,9 @@ public class CommandRestartDAS extends Command {
     /** Command string for version command. */
     private static final String COMMAND = "restart-domain";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 600000;
+
     /** Error message for administration command execution exception .*/
     private static final String ERROR_MESSAGE = "DAS restart failed.";
 
@@ -115,4 +118,29 @@ public class CommandRestartDAS extends Command {
         this.debug = debug;
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.ALL_READS;
+    }
+
 }
@@ -0,0 +1,379 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.netbeans.modules.payara.tooling.TaskState;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Cache of read-only Payara server administration command results.
+ * <p/>
+ * Results are stored per server (host and administration port), command
+ * class and command query returned by {@link Command#cacheQuery()}.
+ * Every entry expires after time to live returned
+ * by {@link Command#cacheTtl()}. Mutating command invalidates results
+ * of command classes returned by {@link Command#invalidates()} when it is
+ * submitted, before its completion is reported and when it finishes.
+ * Failed command invalidates all results cached for the server because
+ * server state is not known anymore.
+ * <p/>
+ * Every invalidation increments server's generation. Result of read-only
+ * command is stored only when server's generation did not change since
+ * the command was submitted so result read before a mutation is never
+ * stored after it.
+ * <p/>
+ * Cached results are shared between callers and must be treated
+ * as read-only.
+ * <p/>
+ * Cache is implemented as singleton.
+ */
+class CommandResultCache {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Cached administration command result.
+     */
+    private static class Entry {
+
+        /** Administration command class. */
+        private final Class<?> commandClass;
+
+        /** Administration command execution result. */
+        private final Result<?> result;
+
+        /** Time of entry expiration [ms]. */
+        private final long expires;
+
+        /**
+         * Constructs an instance of cached administration command result.
+         * <p/>
+         * @param commandClass Administration command class.
+         * @param result       Administration command execution result.
+         * @param expires      Time of entry expiration [ms].
+         */
+        private Entry(final Class<?> commandClass, final Result<?> result,
+                final long expires) {
+            this.commandClass = commandClass;
+            this.result = result;
+            this.expires = expires;
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Commands reading server configuration properties. */
+    static final Class<?>[] PROPERTY_READS = new Class<?>[] {
+        CommandGetProperty.class
+    };
+
+    /** Commands reading deployed applications. */
+    static final Class<?>[] APPLICATION_READS = new Class<?>[] {
+        CommandGetProperty.class, CommandListComponents.class,
+        CommandListWebServices.class
+    };
+
+    /** Commands reading server resources. */
+    static final Class<?>[] RESOURCE_READS = new Class<?>[] {
+        CommandGetProperty.class, CommandListResources.class
+    };
+
+    /** Commands reading server configuration. */
+    static final Class<?>[] CONFIGURATION_READS = new Class<?>[] {
+        CommandGetProperty.class, CommandListComponents.class,
+        CommandListResources.class, CommandListWebServices.class
+    };
+
+    /** All cached commands. */
+    static final Class<?>[] ALL_READS = new Class<?>[] {
+        CommandGetProperty.class, CommandListComponents.class,
+        CommandListResources.class, CommandListWebServices.class,
+        CommandVersion.class
+    };
+
+    /** No cached commands. */
+    static final Class<?>[] NO_READS = new Class<?>[0];
+
+    /** Cache key separator. */
+    private static final char KEY_SEPARATOR = '\n';
+
+    /** Singleton object instance. */
+    private static volatile CommandResultCache instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return existing singleton instance of this class or create a new one
+     * when no instance exists.
+     * <p/>
+     * @return <code>CommandResultCache</code> singleton instance.
+     */
+    static CommandResultCache getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (CommandResultCache.class) {
+            if (instance == null) {
+                instance = new CommandResultCache();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Build cache key of administration command within server's cache.
+     * <p/>
+     * @param command Payara server administration command entity.
+     * @param query   Command query returned by {@link Command#cacheQuery()}.
+     * @return Cache key of administration command.
+     */
+    private static String key(final Command command, final String query) {
+        String className = command.getClass().getName();
+        StringBuilder sb = new StringBuilder(
+                className.length() + 1 + query.length());
+        sb.append(className);
+        sb.append(KEY_SEPARATOR);
+        sb.append(query);
+        return sb.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Cached results of individual Payara servers. */
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>> servers;
+
+    /** Generations of individual Payara servers. */
+    private final ConcurrentMap<String, AtomicLong> generations;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of administration command results cache.
+     */
+    private CommandResultCache() {
+        servers = new ConcurrentHashMap<>();
+        generations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get generation counter of given server.
+     * <p/>
+     * @param serverKey Server key returned by
+     *                  {@link ServerUtils#adminKey(PayaraServer)}.
+     * @return Generation counter of server.
+     */
+    private AtomicLong generationCounter(final String serverKey) {
+        AtomicLong counter = generations.get(serverKey);
+        if (counter == null) {
+            AtomicLong newCounter = new AtomicLong();
+            counter = generations.putIfAbsent(serverKey, newCounter);
+            if (counter == null) {
+                counter = newCounter;
+            }
+        }
+        return counter;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get cached result of administration command.
+     * <p/>
+     * @param server  Target Payara server.
+     * @param command Payara server administration command entity.
+     * @return Cached administration command result or <code>null</code>
+     *         when command is not cacheable or no valid result is cached.
+     */
+    Result<?> get(final PayaraServer server, final Command command) {
+        String query = command.cacheQuery();
+        if (query == null) {
+            return null;
+        }
+        Map<String, Entry> entries
+                = servers.get(ServerUtils.adminKey(server));
+        if (entries == null) {
+            return null;
+        }
+        String key = key(command, query);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expires < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.result;
+    }
+
+    /**
+     * Get current generation of given server.
+     * <p/>
+     * @param server Target Payara server.
+     * @return Current generation of server.
+     */
+    long generation(final PayaraServer server) {
+        return generationCounter(ServerUtils.adminKey(server)).get();
+    }
+
+    /**
+     * Invalidate results affected by mutating administration command.
+     * <p/>
+     * Called when command is submitted and before its completion
+     * is reported. Does nothing for commands which do not invalidate
+     * any results.
+     * <p/>
+     * @param server  Target Payara server.
+     * @param command Payara server administration command entity.
+     */
+    void mutating(final PayaraServer server, final Command command) {
+        invalidate(server, command.invalidates());
+    }
+
+    /**
+     * Process finished administration command.
+     * <p/>
+     * Stores result of successfully completed read-only command
+     * and invalidates results affected by mutating command. Failure
+     * of any command invalidates all results cached for the server.
+     * <p/>
+     * @param server     Target Payara server.
+     * @param command    Payara server administration command entity.
+     * @param result     Administration command execution result.
+     * @param generation Server's generation when command was submitted.
+     */
+    void finished(final PayaraServer server, final Command command,
+            final Result<?> result, final long generation) {
+        if (result == null || result.getState() != TaskState.COMPLETED) {
+            invalidate(server);
+            return;
+        }
+        invalidate(server, command.invalidates());
+        String query = command.cacheQuery();
+        long ttl = command.cacheTtl();
+        if (query != null && ttl > 0) {
+            String serverKey = ServerUtils.adminKey(server);
+            AtomicLong counter = generationCounter(serverKey);
+            ConcurrentMap<String, Entry> entries = servers.get(serverKey);
+            if (entries == null) {
+                ConcurrentMap<String, Entry> newEntries
+                        = new ConcurrentHashMap<>();
+                entries = servers.putIfAbsent(serverKey, newEntries);
+                if (entries == null) {
+                    entries = newEntries;
+                }
+            }
+            // Generation is checked under entries lock so invalidation
+            // can't run between the check and the store.
+            synchronized (entries) {
+                if (counter.get() == generation) {
+                    entries.put(key(command, query), new Entry(
+                            command.getClass(), result,
+                            System.currentTimeMillis() + ttl));
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate cached results of given command classes.
+     * <p/>
+     * @param server         Target Payara server.
+     * @param commandClasses Command classes to be invalidated.
+     */
+    void invalidate(final PayaraServer server,
+            final Class<?>[] commandClasses) {
+        if (commandClasses.length == 0) {
+            return;
+        }
+        String serverKey = ServerUtils.adminKey(server);
+        generationCounter(serverKey).incrementAndGet();
+        Map<String, Entry> entries = servers.get(serverKey);
+        if (entries == null) {
+            return;
+        }
+        synchronized (entries) {
+            for (Iterator<Entry> i = entries.values().iterator();
+                    i.hasNext(); ) {
+                Class<?> entryClass = i.next().commandClass;
+                for (Class<?> commandClass : commandClasses) {
+                    if (commandClass == entryClass) {
+                        i.remove();
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Invalidate all results cached for given server.
+     * <p/>
+     * @param server Target Payara server.
+     */
+    void invalidate(final PayaraServer server) {
+        String serverKey = ServerUtils.adminKey(server);
+        generationCounter(serverKey).incrementAndGet();
+        servers.remove(serverKey);
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.PayaraIdeException;
+import org.netbeans.modules.payara.tooling.TaskState;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+
+/**
+ * Command that sets many properties on the server in single request.
+ * <p/>
+ * Server <code>set</code> command accepts many dotted name assignments
+ * as its operands. Servers which refuse batched request are handled
+ * by sending individual {@link CommandSetProperty} commands which are all
+ * queued at once without waiting for each response.
+ */
+@RunnerHttpClass(runner=RunnerHttpSetProperties.class)
+@RunnerRestClass(runner=RunnerRestSetProperties.class)
+public class CommandSetProperties extends Command {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER
+            = new Logger(CommandSetProperties.class);
+
+    /** Command string for set command. */
+    private static final String COMMAND = "set";
+
+    /** Error message prefix for administration command execution
+     *  exception. */
+    private static final String ERROR_MESSAGE_PREFIX
+            = "Could not set properties ";
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Put properties to server.
+     * <p/>
+     * Properties are sent in single batched request. When server refuses
+     * it, properties are set one by one using individual set commands.
+     * All of them are queued at once so they are sent to the server
+     * back to back.
+     * <p/>
+     * @param server     Payara server entity.
+     * @param properties Dotted names and values of properties to set.
+     * @return Payara command result containing <code>String</code> with
+     *         result message.
+     * @throws PayaraIdeException When some of the properties could not
+     *         be set.
+     */
+    public static ResultString setProperties(
+            final PayaraServer server, final Map<String, String> properties)
+            throws PayaraIdeException {
+        final String METHOD = "setProperties";
+        final CommandSetProperties command
+                = new CommandSetProperties(properties);
+        try {
+            final ResultString result = ServerAdmin.<ResultString>exec(
+                    server, command).get();
+            if (result.getState() == TaskState.COMPLETED) {
+                return result;
+            }
+            LOGGER.log(Level.FINE, METHOD, "failed", result.getValue());
+        } catch (ExecutionException ee) {
+            LOGGER.log(Level.FINE, METHOD, "failed", ee.getMessage());
+        } catch (InterruptedException | CancellationException ie) {
+            throw new PayaraIdeException(
+                    ERROR_MESSAGE_PREFIX + command.properties.keySet(), ie);
+        }
+        return setEach(server, command.properties);
+    }
+
+    /**
+     * Put properties to server using individual set commands.
+     * <p/>
+     * @param server     Payara server entity.
+     * @param properties Dotted names and values of properties to set.
+     * @return Payara command result of the last command.
+     * @throws PayaraIdeException When some of the properties could not
+     *         be set.
+     */
+    private static ResultString setEach(final PayaraServer server,
+            final Map<String, String> properties) throws PayaraIdeException {
+        final List<String> names = new ArrayList<>(properties.size());
+        final List<Future<ResultString>> futures
+                = new ArrayList<>(properties.size());
+        for (Map.Entry<String, String> entry : properties.entrySet()) {
+            names.add(entry.getKey());
+            futures.add(ServerAdmin.<ResultString>exec(server,
+                    new CommandSetProperty(
+                            entry.getKey(), entry.getValue())));
+        }
+        final List<String> failed = new ArrayList<>();
+        Throwable cause = null;
+        ResultString last = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                last = futures.get(i).get();
+                if (last.getState() != TaskState.COMPLETED) {
+                    failed.add(names.get(i));
+                }
+            } catch (ExecutionException | InterruptedException
+                    | CancellationException ee) {
+                failed.add(names.get(i));
+                cause = ee;
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new PayaraIdeException(ERROR_MESSAGE_PREFIX + failed, cause);
+        }
+        return last;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Dotted names and values of properties to set. */
+    final Map<String, String> properties;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of Payara server set properties command entity.
+     * <p/>
+     * @param properties Dotted names and values of properties to set.
+     */
+    public CommandSetProperties(final Map<String, String> properties) {
+        super(COMMAND);
+        this.properties = Collections.unmodifiableMap(
+                new LinkedHashMap<>(properties));
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get dotted names and values of properties to set.
+     * <p/>
+     * @return Dotted names and values of properties to set.
+     */
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.CONFIGURATION_READS;
+    }
+
+}
@@ -65,6 +65,9 @@ public class CommandStartCluster extends CommandTarget {
     /** Command string for start-cluster command. */
     private static final String COMMAND = "start-cluster";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 600000;
+
     /** Error message for administration command execution exception .*/
     private static final String ERROR_MESSAGE = "Cluster start failed.";
 
@@ -107,4 +110,29 @@ public class CommandStartCluster extends CommandTarget {
         super(COMMAND, target);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return CommandResultCache.ALL_READS;
+    }
+
 }
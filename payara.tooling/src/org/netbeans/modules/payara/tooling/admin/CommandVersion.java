@@ -71,6 +71,12 @@ public class CommandVersion extends Command {
     /** Command string for version command. */
     private static final String COMMAND = "version";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 15000;
+
+    /** Time to live of cached command result [ms]. */
+    private static final long CACHE_TTL = 10000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
@@ -160,4 +166,39 @@ public class CommandVersion extends Command {
         super(COMMAND);
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get query identifying result of this command in administration command
+     * results cache.
+     * <p/>
+     * @return Empty query, command has no arguments.
+     */
+    @Override
+    String cacheQuery() {
+        return "";
+    }
+
+    /**
+     * Get time to live of cached result of this command.
+     * <p/>
+     * @return Time to live of cached result [ms].
+     */
+    @Override
+    long cacheTtl() {
+        return CACHE_TTL;
+    }
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
 }
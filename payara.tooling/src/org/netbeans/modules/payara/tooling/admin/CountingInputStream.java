@@ -0,0 +1,177 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream counting bytes read trough it from underlying input stream.
+ * <p/>
+ * Marking is not supported so every byte is counted only once.
+ */
+class CountingInputStream extends FilterInputStream {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Number of bytes read. */
+    private long count;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of input stream counting bytes read
+     * from underlying input stream.
+     * <p/>
+     * @param in Underlying input stream.
+     */
+    CountingInputStream(final InputStream in) {
+        super(in);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get number of bytes read or skipped trough this stream.
+     * <p/>
+     * @return Number of bytes read.
+     */
+    long getCount() {
+        return count;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Reads the next byte of data from underlying input stream.
+     * <p/>
+     * @return The next byte of data or <code>-1</code> when the end
+     *         of the stream is reached.
+     * @throws IOException when an I/O error occurs.
+     */
+    @Override
+    public int read() throws IOException {
+        final int b = in.read();
+        if (b >= 0) {
+            count++;
+        }
+        return b;
+    }
+
+    /**
+     * Reads up to <code>len</code> bytes of data from underlying input stream
+     * into an array of bytes.
+     * <p/>
+     * @param b   Buffer into which the data is read.
+     * @param off Start offset in the buffer.
+     * @param len Maximum number of bytes read.
+     * @return Number of bytes read or <code>-1</code> when the end
+     *         of the stream is reached.
+     * @throws IOException when an I/O error occurs.
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len)
+            throws IOException {
+        final int n = in.read(b, off, len);
+        if (n > 0) {
+            count += n;
+        }
+        return n;
+    }
+
+    /**
+     * Skips over and discards <code>n</code> bytes of data from underlying
+     * input stream.
+     * <p/>
+     * @param n Number of bytes to be skipped.
+     * @return Number of bytes skipped.
+     * @throws IOException when an I/O error occurs.
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        final long skipped = in.skip(n);
+        if (skipped > 0) {
+            count += skipped;
+        }
+        return skipped;
+    }
+
+    /**
+     * Marking is not supported.
+     * <p/>
+     * @return Always returns <code>false</code>.
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * Marking is not supported so this method does nothing.
+     * <p/>
+     * @param readlimit Ignored.
+     */
+    @Override
+    public void mark(final int readlimit) {
+    }
+
+    /**
+     * Marking is not supported.
+     * <p/>
+     * @throws IOException always.
+     */
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+}
@@ -0,0 +1,354 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.TaskState;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Registry of content digests of archives deployed on remote servers.
+ * <p/>
+ * Digest of deployed archive content and deployment arguments is recorded
+ * per server (host and administration port), target and application name
+ * after each successful deployment. Deployment of an archive with the same
+ * digest is replaced by <code>redeploy</code> command which reloads
+ * application already stored on the server without uploading archive again.
+ * <p/>
+ * Failed redeployment is followed by original deployment with archive upload.
+ * <p/>
+ * Failed deployment, failed redeployment and undeployment of an application
+ * remove its digest. Digests of a server are dropped when its cached state
+ * is invalidated.
+ * <p/>
+ * Registry is implemented as singleton.
+ */
+class DeployDigests {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(DeployDigests.class);
+
+    /** Message digest algorithm. */
+    private static final String ALGORITHM = "SHA-256";
+
+    /** Size of buffer used to read deployed file content [bytes]. */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Registry key separator. */
+    private static final char KEY_SEPARATOR = '\n';
+
+    /** Singleton object instance. */
+    private static volatile DeployDigests instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return existing singleton instance of this class or create a new one
+     * when no instance exists.
+     * <p/>
+     * @return <code>DeployDigests</code> singleton instance.
+     */
+    static DeployDigests getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (DeployDigests.class) {
+            if (instance == null) {
+                instance = new DeployDigests();
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Build registry key of application within server's digests.
+     * <p/>
+     * @param target Target Payara instance or cluster.
+     * @param name   Application name.
+     * @return Registry key of application.
+     */
+    private static String key(final String target, final String name) {
+        final String targetKey = target != null ? target : "";
+        StringBuilder sb = new StringBuilder(
+                targetKey.length() + 1 + name.length());
+        sb.append(targetKey);
+        sb.append(KEY_SEPARATOR);
+        sb.append(name);
+        return sb.toString();
+    }
+
+    /**
+     * Compute digest of deployed archive content and deployment arguments.
+     * <p/>
+     * Archive content is read in chunks into single buffer so the file
+     * is not locked by memory mapping.
+     * Libraries are represented by their paths, sizes and modification times.
+     * <p/>
+     * @param command Payara server administration deploy command entity.
+     * @return Digest as hexadecimal string.
+     * @throws IOException when deployed archive could not be read.
+     */
+    private static String digest(final CommandDeploy command)
+            throws IOException {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new IOException(nsae);
+        }
+        try (FileInputStream in = new FileInputStream(command.path)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                md.update(buffer, 0, read);
+            }
+        }
+        final StringBuilder args = new StringBuilder();
+        args.append(KEY_SEPARATOR).append(command.contextRoot);
+        if (command.properties != null) {
+            args.append(KEY_SEPARATOR)
+                    .append(new TreeMap<>(command.properties));
+        }
+        if (command.libraries != null) {
+            for (File library : command.libraries) {
+                args.append(KEY_SEPARATOR).append(library.getAbsolutePath())
+                        .append(':').append(library.length())
+                        .append(':').append(library.lastModified());
+            }
+        }
+        md.update(args.toString().getBytes(StandardCharsets.UTF_8));
+        final byte[] hash = md.digest();
+        final StringBuilder sb = new StringBuilder(2 * hash.length);
+        for (byte b : hash) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Digests of applications deployed on individual Payara servers. */
+    private final ConcurrentMap<String, ConcurrentMap<String, String>> servers;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of deployed archives digests registry.
+     */
+    private DeployDigests() {
+        servers = new ConcurrentHashMap<>();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get command to be executed instead of provided administration command.
+     * <p/>
+     * Deployment of an archive on remote server whose digest matches digest
+     * recorded after last successful deployment is replaced
+     * by <code>redeploy</code> command. Digest of deployed archive is stored
+     * in deploy command so it's available when deployment finishes.
+     * Any other command is returned unchanged.
+     * <p/>
+     * @param server  Target Payara server.
+     * @param command Payara server administration command entity.
+     * @return Payara server administration command entity to be executed.
+     */
+    Command command(final PayaraServer server, final Command command) {
+        final String METHOD = "command";
+        if (!(command instanceof CommandDeploy)) {
+            return command;
+        }
+        final CommandDeploy deploy = (CommandDeploy)command;
+        if (deploy.dirDeploy || deploy.path == null || !server.isRemote()
+                || !deploy.redeployUnchanged) {
+            return command;
+        }
+        try {
+            deploy.digest = digest(deploy);
+        } catch (IOException ioe) {
+            LOGGER.log(Level.INFO, METHOD, "digest", ioe.getMessage());
+            return command;
+        }
+        final Map<String, String> digests
+                = servers.get(ServerUtils.adminKey(server));
+        final String name = deploy.applicationName();
+        if (digests == null || !deploy.digest.equals(
+                digests.get(key(deploy.target, name)))) {
+            return command;
+        }
+        LOGGER.log(Level.FINE, METHOD, "unchanged",
+                new Object[] {deploy.path.getName(),
+                    ServerUtils.adminKey(server)});
+        final CommandRedeploy redeploy = new CommandRedeploy(name,
+                deploy.target, deploy.contextRoot, deploy.properties,
+                deploy.libraries, false);
+        redeploy.setTimeout(deploy.getTimeout());
+        redeploy.fallback = deploy;
+        return redeploy;
+    }
+
+    /**
+     * Get deployment to be executed when provided administration command
+     * fails.
+     * <p/>
+     * Redeploy command substituted for deployment of unchanged archive
+     * may fail when application is no more stored on the server. Original
+     * deployment with archive upload is executed in such a case.
+     * <p/>
+     * @param command Payara server administration command entity.
+     * @return Original deploy command or <code>null</code> when provided
+     *         command was not substituted for deployment.
+     */
+    CommandDeploy fallback(final Command command) {
+        return command instanceof CommandRedeploy
+                ? ((CommandRedeploy)command).fallback : null;
+    }
+
+    /**
+     * Process finished administration command.
+     * <p/>
+     * Records digest of successfully deployed archive and removes digests
+     * of applications which failed to deploy or redeploy or which were
+     * undeployed.
+     * <p/>
+     * @param server  Target Payara server.
+     * @param command Payara server administration command entity.
+     * @param result  Administration command execution result.
+     */
+    void finished(final PayaraServer server, final Command command,
+            final Result<?> result) {
+        final boolean completed
+                = result != null && result.getState() == TaskState.COMPLETED;
+        final String serverKey = ServerUtils.adminKey(server);
+        if (command instanceof CommandDeploy) {
+            final CommandDeploy deploy = (CommandDeploy)command;
+            if (deploy.digest == null) {
+                return;
+            }
+            final String key = key(deploy.target, deploy.applicationName());
+            if (completed) {
+                ConcurrentMap<String, String> digests
+                        = servers.get(serverKey);
+                if (digests == null) {
+                    ConcurrentMap<String, String> newDigests
+                            = new ConcurrentHashMap<>();
+                    digests = servers.putIfAbsent(serverKey, newDigests);
+                    if (digests == null) {
+                        digests = newDigests;
+                    }
+                }
+                digests.put(key, deploy.digest);
+            } else {
+                remove(serverKey, key);
+            }
+        } else if (command instanceof CommandRedeploy) {
+            if (!completed) {
+                final CommandRedeploy redeploy = (CommandRedeploy)command;
+                remove(serverKey, key(redeploy.target, redeploy.name));
+            }
+        } else if (command instanceof CommandUndeploy) {
+            final Map<String, String> digests = servers.get(serverKey);
+            if (digests == null) {
+                return;
+            }
+            final String suffix = KEY_SEPARATOR
+                    + ((CommandUndeploy)command).name;
+            for (Iterator<String> i = digests.keySet().iterator();
+                    i.hasNext(); ) {
+                if (i.next().endsWith(suffix)) {
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove digest of deployed application.
+     * <p/>
+     * @param serverKey Server key (<code>host:port</code>).
+     * @param key       Registry key of application.
+     */
+    private void remove(final String serverKey, final String key) {
+        final Map<String, String> digests = servers.get(serverKey);
+        if (digests != null) {
+            digests.remove(key);
+        }
+    }
+
+    /**
+     * Remove digests of all applications deployed on server.
+     * <p/>
+     * @param server Target Payara server.
+     */
+    void invalidate(final PayaraServer server) {
+        servers.remove(ServerUtils.adminKey(server));
+    }
+
+}
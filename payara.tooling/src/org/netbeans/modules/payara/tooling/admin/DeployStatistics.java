@@ -0,0 +1,251 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.TaskEvent;
+import org.netbeans.modules.payara.tooling.TaskState;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+
+/**
+ * Payara server deploy command execution statistics.
+ * <p/>
+ * Deploy command runners measure time spent in each phase of deployment
+ * and count bytes sent to server. Statistics of last deploy command
+ * execution attempt are available trough
+ * {@link CommandDeploy#getStatistics()}.
+ */
+public class DeployStatistics {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Deploy command execution phase.
+     */
+    public enum Phase {
+        /** Request preparation, e.g. ZIP entry setup and CRC computation. */
+        PREPARE,
+        /** Sending deployed archive to server. */
+        UPLOAD,
+        /** Waiting for server to process deployment and respond. */
+        SERVER,
+        /** Reading and parsing server response. */
+        RESPONSE
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(DeployStatistics.class);
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Time spent in each phase [ns]. */
+    private final long[] phaseTimes = new long[Phase.values().length];
+
+    /** Size of deployed archive [bytes]. */
+    private final long archiveSize;
+
+    /** Request body output stream counting bytes sent to server. */
+    private volatile CountingOutputStream stream;
+
+    /** Start of currently measured phase [ns]. */
+    private long lapStart;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of deploy command execution statistics.
+     * <p/>
+     * Measurement of first phase starts immediately.
+     * <p/>
+     * @param archiveSize Size of deployed archive [bytes].
+     */
+    DeployStatistics(final long archiveSize) {
+        this.archiveSize = archiveSize;
+        this.lapStart = System.nanoTime();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get time spent in provided deployment phase.
+     * <p/>
+     * @param phase Deployment phase.
+     * @return Time spent in provided phase [ms].
+     */
+    public synchronized long getTime(final Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(phaseTimes[phase.ordinal()]);
+    }
+
+    /**
+     * Get time spent in all measured deployment phases.
+     * <p/>
+     * @return Total time of deployment [ms].
+     */
+    public synchronized long getTotalTime() {
+        long total = 0;
+        for (long time : phaseTimes) {
+            total += time;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(total);
+    }
+
+    /**
+     * Get size of deployed archive.
+     * <p/>
+     * @return Size of deployed archive [bytes] or <code>0</code>
+     *         for directory deployment.
+     */
+    public long getArchiveSize() {
+        return archiveSize;
+    }
+
+    /**
+     * Get number of bytes sent to server in request body.
+     * <p/>
+     * @return Number of bytes sent to server.
+     */
+    public long getBytesSent() {
+        final CountingOutputStream counter = stream;
+        return counter != null ? counter.getCount() : 0;
+    }
+
+    /**
+     * Get upload throughput.
+     * <p/>
+     * @return Bytes sent to server per second during upload phase
+     *         or <code>0</code> when nothing was uploaded.
+     */
+    public synchronized long getUploadThroughput() {
+        final long time = phaseTimes[Phase.UPLOAD.ordinal()];
+        return time > 0
+                ? getBytesSent() * TimeUnit.SECONDS.toNanos(1) / time : 0;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Finish measurement of provided phase and start measurement
+     * of the next one.
+     * <p/>
+     * Time since previous phase finished is added to provided phase.
+     * Command execution state listeners of provided runner are notified
+     * about finished phase.
+     * <p/>
+     * @param runner Deploy command runner.
+     * @param phase  Finished deployment phase.
+     */
+    void lap(final Runner runner, final Phase phase) {
+        final String METHOD = "lap";
+        synchronized (this) {
+            final long now = System.nanoTime();
+            phaseTimes[phase.ordinal()] += now - lapStart;
+            lapStart = now;
+        }
+        final String message = message(phase);
+        LOGGER.log(Level.FINE, METHOD, "phase", message);
+        runner.handleStateChange(TaskState.RUNNING, TaskEvent.CMD_PHASE,
+                runner.stateChangeArgs(message));
+    }
+
+    /**
+     * Wrap output stream to count bytes sent to server.
+     * <p/>
+     * @param out Request body output stream.
+     * @return Output stream counting bytes written.
+     */
+    OutputStream count(final OutputStream out) {
+        stream = new CountingOutputStream(out);
+        return stream;
+    }
+
+    /**
+     * Build message describing provided deployment phase.
+     * <p/>
+     * @param phase Deployment phase.
+     * @return Message describing provided deployment phase.
+     */
+    String message(final Phase phase) {
+        final String METHOD = "message";
+        return phase == Phase.UPLOAD
+                ? LOGGER.excMsg(METHOD, "upload", Long.toString(
+                        getTime(phase)), Long.toString(getBytesSent()),
+                        Long.toString(getUploadThroughput() / 1024))
+                : LOGGER.excMsg(METHOD, "phase", phase.toString(),
+                        Long.toString(getTime(phase)));
+    }
+
+    /**
+     * Convert deploy command execution statistics to <code>String</code>.
+     * <p/>
+     * @return A <code>String</code> representation of deploy command
+     *         execution statistics.
+     */
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            sb.append(phase).append('=').append(getTime(phase)).append("ms ");
+        }
+        sb.append("archive=").append(archiveSize);
+        sb.append(" sent=").append(getBytesSent());
+        sb.append(" throughput=").append(getUploadThroughput()).append("B/s");
+        return sb.toString();
+    }
+
+}
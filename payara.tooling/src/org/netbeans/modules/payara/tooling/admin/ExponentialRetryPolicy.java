@@ -0,0 +1,155 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy with exponential backoff and random jitter.
+ * <p/>
+ * Delay before attempt <i>n</i> is randomly chosen between half and full
+ * value of <code>initialDelay * 2^(n-1)</code> limited by maximal delay,
+ * so clients of the same server do not retry in lockstep.
+ * Only transient failures are repeated: broken connection of idempotent
+ * command and busy server.
+ * Unreachable server is left to the circuit breaker and timeout means
+ * that command deadline is already gone.
+ */
+public class ExponentialRetryPolicy implements RetryPolicy {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Default maximal number of execution attempts. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /** Default delay before the first retry [ms]. */
+    public static final long DEFAULT_INITIAL_DELAY = 250;
+
+    /** Default maximal delay between attempts [ms]. */
+    public static final long DEFAULT_MAX_DELAY = Runner.HTTP_RETRY_DELAY;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Maximal number of execution attempts. */
+    private final int maxAttempts;
+
+    /** Delay before the first retry [ms]. */
+    private final long initialDelay;
+
+    /** Maximal delay between attempts [ms]. */
+    private final long maxDelay;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of exponential backoff retry policy
+     * with default settings.
+     */
+    public ExponentialRetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Constructs an instance of exponential backoff retry policy.
+     * <p/>
+     * @param maxAttempts  Maximal number of execution attempts.
+     * @param initialDelay Delay before the first retry [ms].
+     * @param maxDelay     Maximal delay between attempts [ms].
+     * @throws IllegalArgumentException when arguments are out of range.
+     */
+    public ExponentialRetryPolicy(final int maxAttempts,
+            final long initialDelay, final long maxDelay) {
+        if (maxAttempts < 1 || initialDelay < 0 || maxDelay < initialDelay) {
+            throw new IllegalArgumentException(
+                    "Invalid retry policy settings: " + maxAttempts + ", "
+                    + initialDelay + ", " + maxDelay);
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get delay before next execution attempt of failed command.
+     * <p/>
+     * @param command Administration command which execution failed.
+     * @param attempt Number of failed execution attempts, starting
+     *                from <code>1</code>.
+     * @param failure Classification of last failure.
+     * @return Delay before next execution attempt [ms] or <code>-1</code>
+     *         when command execution shall not be repeated.
+     */
+    @Override
+    public long retryDelay(final Command command, final int attempt,
+            final Failure failure) {
+        if (attempt >= maxAttempts) {
+            return -1;
+        }
+        switch (failure) {
+            case IO:
+                // Server may have processed state changing command already.
+                if (!command.isIdempotent()) {
+                    return -1;
+                }
+                break;
+            case SERVER_BUSY:
+                break;
+            default:
+                return -1;
+        }
+        final int shift = Math.min(attempt - 1, 30);
+        final long delay = Math.min(maxDelay, initialDelay << shift);
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+}
@@ -0,0 +1,409 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.jar.Attributes;
+import org.netbeans.modules.payara.tooling.utils.JavaUtils;
+
+/**
+ * Streaming reader of manifest returned by Payara server HTTP administration
+ * interface.
+ * <p/>
+ * Main section attributes are stored into provided {@link Attributes}
+ * object. Names and attributes of individual entries are passed
+ * to {@link Handler} as they are read so large responses are never
+ * materialized as complete {@link java.util.jar.Manifest} object.
+ * Attributes of entries which handler is not interested in are skipped
+ * without being decoded.
+ * <p/>
+ * Reader accepts the same line format as {@link java.util.jar.Manifest}:
+ * <code>name: value</code> lines terminated by CR, LF or CR LF, continuation
+ * lines starting with single space and sections separated by empty line.
+ */
+class ManifestReader {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Manifest entries handler.
+     */
+    interface Handler {
+
+        /**
+         * Manifest entry was read.
+         * <p/>
+         * @param name Entry name (value of <code>Name</code> attribute).
+         * @return Value of <code>true</code> when entry attributes shall
+         *         be passed to {@link #attribute(String, String, String)}
+         *         or <code>false</code> when they shall be skipped.
+         */
+        boolean entry(String name);
+
+        /**
+         * Manifest entry attribute was read.
+         * <p/>
+         * @param entry Entry name.
+         * @param name  Attribute name.
+         * @param value Attribute value.
+         */
+        void attribute(String entry, String name, String value);
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Handler skipping all manifest entries. Only main attributes
+     *  are read. */
+    static final Handler SKIP_ENTRIES = new Handler() {
+        @Override
+        public boolean entry(final String name) {
+            return false;
+        }
+        @Override
+        public void attribute(final String entry, final String name,
+                final String value) {
+        }
+    };
+
+    /** Input buffer size. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Initial logical line buffer size. */
+    private static final int LINE_SIZE = 512;
+
+    /** Entry name attribute prefix. */
+    private static final byte[] NAME_PREFIX = {
+        'N', 'a', 'm', 'e', ':', ' '
+    };
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Decode <code>application/x-www-form-urlencoded</code> string using
+     * UTF-8 encoding.
+     * <p/>
+     * Unlike {@link java.net.URLDecoder} this method returns source string
+     * without any allocation when it contains nothing to decode and signals
+     * malformed input by returning <code>null</code> instead of throwing
+     * an exception.
+     * <p/>
+     * @param s String to be decoded.
+     * @return Decoded string or <code>null</code> when source string
+     *         contains illegal escape sequence.
+     */
+    static String decode(final String s) {
+        final int length = s.length();
+        int i = 0;
+        while (i < length) {
+            final char c = s.charAt(i);
+            if (c == '%' || c == '+') {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            return s;
+        }
+        final StringBuilder sb = new StringBuilder(length);
+        sb.append(s, 0, i);
+        byte[] bytes = null;
+        while (i < length) {
+            char c = s.charAt(i);
+            if (c == '+') {
+                sb.append(' ');
+                i++;
+            } else if (c == '%') {
+                if (bytes == null) {
+                    bytes = new byte[(length - i) / 3];
+                }
+                int count = 0;
+                while (i + 2 < length && s.charAt(i) == '%') {
+                    final int hi = Character.digit(s.charAt(i + 1), 16);
+                    final int lo = Character.digit(s.charAt(i + 2), 16);
+                    if (hi < 0 || lo < 0) {
+                        return null;
+                    }
+                    bytes[count++] = (byte)((hi << 4) + lo);
+                    i += 3;
+                }
+                if (i < length && s.charAt(i) == '%') {
+                    return null;
+                }
+                sb.append(new String(bytes, 0, count, JavaUtils.UTF_8));
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Manifest input stream. */
+    private final InputStream in;
+
+    /** Input buffer. */
+    private final byte[] buffer;
+
+    /** Position of next byte to be read from input buffer. */
+    private int pos;
+
+    /** Number of valid bytes in input buffer. */
+    private int limit;
+
+    /** Logical line buffer. */
+    private byte[] line;
+
+    /** Number of valid bytes in logical line buffer. */
+    private int lineLength;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of streaming manifest reader.
+     * <p/>
+     * @param in Manifest input stream.
+     */
+    ManifestReader(final InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+        this.pos = 0;
+        this.limit = 0;
+        this.line = new byte[LINE_SIZE];
+        this.lineLength = 0;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Read whole manifest from input stream.
+     * <p/>
+     * @param main    Main section attributes are stored here.
+     * @param handler Manifest entries handler.
+     * @throws IOException when manifest could not be read or has invalid
+     *         format.
+     */
+    void read(final Attributes main, final Handler handler)
+            throws IOException {
+        // Main section.
+        while (readLine()) {
+            if (lineLength == 0) {
+                break;
+            }
+            final int separator = separator();
+            main.putValue(string(0, separator), string(
+                    separator + 2, lineLength - separator - 2));
+        }
+        // Entries sections.
+        String entry = null;
+        boolean wanted = false;
+        while (readLine()) {
+            if (lineLength == 0) {
+                entry = null;
+            } else if (entry == null) {
+                if (!startsWithName()) {
+                    throw new IOException("Invalid manifest format: "
+                            + "section does not start with Name attribute");
+                }
+                entry = string(NAME_PREFIX.length,
+                        lineLength - NAME_PREFIX.length);
+                wanted = handler.entry(entry);
+            } else if (wanted) {
+                final int separator = separator();
+                handler.attribute(entry, string(0, separator), string(
+                        separator + 2, lineLength - separator - 2));
+            }
+        }
+    }
+
+    /**
+     * Read next logical line into line buffer. Continuation lines are joined
+     * and line terminator is removed.
+     * <p/>
+     * @return Value of <code>true</code> when line was read
+     *         or <code>false</code> at the end of stream.
+     * @throws IOException when input stream could not be read.
+     */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        if (!readPhysicalLine()) {
+            return false;
+        }
+        // Non empty line may continue on following lines.
+        while (lineLength > 0 && fill() && buffer[pos] == ' ') {
+            pos++;
+            readPhysicalLine();
+        }
+        return true;
+    }
+
+    /**
+     * Append next physical line to line buffer.
+     * <p/>
+     * @return Value of <code>true</code> when line was read
+     *         or <code>false</code> at the end of stream.
+     * @throws IOException when input stream could not be read.
+     */
+    private boolean readPhysicalLine() throws IOException {
+        if (!fill()) {
+            return false;
+        }
+        while (fill()) {
+            final int start = pos;
+            while (pos < limit && buffer[pos] != '\n' && buffer[pos] != '\r') {
+                pos++;
+            }
+            append(start, pos - start);
+            if (pos < limit) {
+                if (buffer[pos++] == '\r' && fill() && buffer[pos] == '\n') {
+                    pos++;
+                }
+                return true;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Make sure that input buffer contains at least one byte to be read.
+     * <p/>
+     * @return Value of <code>true</code> when there is a byte to be read
+     *         or <code>false</code> at the end of stream.
+     * @throws IOException when input stream could not be read.
+     */
+    private boolean fill() throws IOException {
+        if (pos < limit) {
+            return true;
+        }
+        int count;
+        do {
+            count = in.read(buffer, 0, buffer.length);
+        } while (count == 0);
+        if (count < 0) {
+            pos = limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = count;
+        return true;
+    }
+
+    /**
+     * Append bytes from input buffer to line buffer.
+     * <p/>
+     * @param start  Index of first byte in input buffer.
+     * @param length Number of bytes to be appended.
+     */
+    private void append(final int start, final int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line,
+                    Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(buffer, start, line, lineLength, length);
+        lineLength += length;
+    }
+
+    /**
+     * Find attribute name and value separator in line buffer.
+     * <p/>
+     * @return Index of <code>": "</code> separator.
+     * @throws IOException when line does not contain separator.
+     */
+    private int separator() throws IOException {
+        for (int i = 0; i < lineLength - 1; i++) {
+            if (line[i] == ':' && line[i + 1] == ' ') {
+                return i;
+            }
+        }
+        throw new IOException("Invalid manifest format: missing header "
+                + "name and value separator");
+    }
+
+    /**
+     * Check whether line buffer contains entry name attribute.
+     * Attribute name is case insensitive.
+     * <p/>
+     * @return Value of <code>true</code> when line starts
+     *         with <code>"Name: "</code>.
+     */
+    private boolean startsWithName() {
+        if (lineLength < NAME_PREFIX.length) {
+            return false;
+        }
+        for (int i = 0; i < NAME_PREFIX.length; i++) {
+            if (Character.toLowerCase(line[i])
+                    != Character.toLowerCase(NAME_PREFIX[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert part of line buffer to string using UTF-8 encoding.
+     * <p/>
+     * @param start  Index of first byte in line buffer.
+     * @param length Number of bytes to be converted.
+     * @return Converted string.
+     */
+    private String string(final int start, final int length) {
+        return new String(line, start, length, JavaUtils.UTF_8);
+    }
+
+}
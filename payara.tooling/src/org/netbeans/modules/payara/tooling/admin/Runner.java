@@ -43,25 +43,23 @@ package org.netbeans.modules.payara.tooling.admin;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.*;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
-import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
 import java.util.logging.Level;
-import javax.net.ssl.*;
-import org.netbeans.modules.payara.tooling.PayaraToolsConfig;
 import org.netbeans.modules.payara.tooling.TaskEvent;
 import org.netbeans.modules.payara.tooling.TaskState;
 import org.netbeans.modules.payara.tooling.TaskStateListener;
 import org.netbeans.modules.payara.tooling.logging.Logger;
 import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+import org.netbeans.modules.payara.tooling.utils.NetUtils;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
 
 /**
@@ -72,7 +70,7 @@ import org.netbeans.modules.payara.tooling.data.PayaraServer;
  * <p/>
  * @author Tomas Kraus, Peter Benedikovic
  */
-public abstract class Runner implements Callable<Result> {
+public abstract class Runner implements Callable<Result<?>> {
 
     ////////////////////////////////////////////////////////////////////////////
     // Inner classes                                                          //
@@ -167,37 +165,17 @@ public abstract class Runner implements Callable<Result> {
     /** <code>String</code> value for <code>false</code>. */
     static final String FALSE_VALUE = "false";
 
-    /** Executor used to serialize administration commands passed to Payara
-     *  server. */
-    private static volatile ExecutorService executor;
-
     /* Global password authenticator for Payara servers. */
     private static volatile Authenticator authenticator;
 
+    /** Retry policy of administration commands. */
+    private static volatile RetryPolicy retryPolicy
+            = new ExponentialRetryPolicy();
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
 
-    /**
-     * Returns shared <code>Executor</code> instance to serialize administration
-     * commands passed to Payara server.
-     * <p/>
-     * <code>Executor</code> instance is handled internally.
-     * <p/>
-     * @return Shared <code>Executor</code> instance.
-     */
-    static ExecutorService serializedExecutor() {
-        if (executor != null) {
-            return executor;
-        }
-        synchronized (Runner.class) {
-            if (executor == null) {
-                executor = Executors.newFixedThreadPool(1);
-            }
-        }
-        return executor;
-    }
- 
     /**
      * Allows to initialize this class to use external
      * <code>Authenticator</code>.
@@ -228,6 +206,28 @@ public abstract class Runner implements Callable<Result> {
         return authenticator;
     }
 
+    /**
+     * Set retry policy of administration commands.
+     * <p/>
+     * @param policy Retry policy of administration commands.
+     */
+    static void setRetryPolicy(final RetryPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException(
+                    "Retry policy shall not be null.");
+        }
+        retryPolicy = policy;
+    }
+
+    /**
+     * Get retry policy of administration commands.
+     * <p/>
+     * @return Retry policy of administration commands.
+     */
+    static RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
     /**
      * Returns individual <code>Executor</code> instance to run administration
      * commands passed to Payara server in parallel.
@@ -325,6 +325,10 @@ public abstract class Runner implements Callable<Result> {
     /** Listeners that want to know about command state. */
     protected TaskStateListener[] stateListeners;
 
+    /** Command results cache generation of server when command
+     *  was submitted. */
+    long cacheGeneration;
+
     ////////////////////////////////////////////////////////////////////////////
     // Abstract methods                                                       //
     ////////////////////////////////////////////////////////////////////////////
@@ -596,7 +600,15 @@ public abstract class Runner implements Callable<Result> {
     Result handleStateChange(final TaskState newTaskState,
             final TaskEvent taskEvent, final String... args) {
         result.state = newTaskState;
-        if (stateListeners != null) {
+        // Listeners reading server state after completion must not get
+        // results cached before this command changed it.
+        if (newTaskState == TaskState.COMPLETED) {
+            CommandResultCache.getInstance().mutating(server, command);
+        }
+        // Failure of substituted redeploy is not reported when original
+        // deployment follows.
+        if (stateListeners != null && !(newTaskState == TaskState.FAILED
+                && fallbackPending())) {
             for (int i = 0; i < stateListeners.length; i++) {
                 if (stateListeners[i] != null) {
                     stateListeners[i].operationStateChanged(newTaskState,
@@ -610,8 +622,16 @@ public abstract class Runner implements Callable<Result> {
     /**
      * Used with external execution code to prepare initial task state before
      * task is passed to executor.
+     * <p/>
+     * Cached results affected by this command are invalidated and read-only
+     * commands in flight are closed so commands submitted later won't read
+     * them.
      */
     public void setReadyState() {
+        final CommandResultCache cache = CommandResultCache.getInstance();
+        cache.mutating(server, command);
+        CommandCoalescer.getInstance().mutating(server, command);
+        cacheGeneration = cache.generation(server);
         result = createResult();
         handleStateChange(TaskState.READY, TaskEvent.SUBMIT,
                 stateChangeArgs(null));
@@ -620,12 +640,49 @@ public abstract class Runner implements Callable<Result> {
     /**
      * Execute an arbitrary server command.
      * <p/>
-     * @return <code>Future</code> object to retrieve receiveResult of
-     * asynchronous execution.
+     * Commands passed to the same server are serialized in server's lane
+     * of internal executor. When no state listeners are registered, valid
+     * cached result of read-only command is returned immediately
+     * and identical read-only commands in flight share single execution.
+     * <p/>
+     * @return Future completed with receiveResult of asynchronous execution.
+     */
+    CompletableFuture<? extends Result<?>> execute() {
+        if (stateListeners == null || stateListeners.length == 0) {
+            Result<?> cached
+                    = CommandResultCache.getInstance().get(server, command);
+            if (cached != null) {
+                result = cached;
+                return CompletableFuture.completedFuture(cached);
+            }
+            return CommandCoalescer.getInstance().execute(this);
+        }
+        return submit();
+    }
+
+    /**
+     * Submit an arbitrary server command into server's lane of internal
+     * executor.
+     * <p/>
+     * @return Future completed with receiveResult of asynchronous execution.
+     */
+    CompletableFuture<Result<?>> submit() {
+        setReadyState();
+        return AdminLaneExecutor.getInstance().submit(server, this);
+    }
+
+    /**
+     * Submit an arbitrary server command to shared worker threads
+     * of internal executor bypassing server's lane.
+     * <p/>
+     * Used for independent commands which may run in parallel with other
+     * commands passed to the same server.
+     * <p/>
+     * @return Future completed with receiveResult of asynchronous execution.
      */
-    Future<? extends Result> execute() {
+    CompletableFuture<Result<?>> submitParallel() {
         setReadyState();
-        return serializedExecutor().submit(this);
+        return AdminLaneExecutor.getInstance().submit(this);
     }
 
     /**
@@ -635,9 +692,11 @@ public abstract class Runner implements Callable<Result> {
      * @return <code>Future</code> object to retrieve receiveResult of
      * asynchronous execution.
      */
-    Future<? extends Result> execute(final ExecutorService executor) {
+    Future<? extends Result<?>> execute(final ExecutorService executor) {
         setReadyState();
-        return executor.submit(this);
+        CommandFuture<Result<?>> future = new CommandFuture<>(this);
+        executor.execute(future);
+        return future;
     }
 
     /**
@@ -655,7 +714,15 @@ public abstract class Runner implements Callable<Result> {
         conn.setAllowUserInteraction(false);
         conn.setDoInput(true);
         conn.setUseCaches(false);
-        conn.setConnectTimeout(HTTP_CONNECTION_TIMEOUT);
+        // Connect and read operations must not exceed command deadline.
+        if (deadline > 0) {
+            final int remaining = remainingTime();
+            conn.setConnectTimeout(
+                    Math.min(HTTP_CONNECTION_TIMEOUT, remaining));
+            conn.setReadTimeout(remaining);
+        } else {
+            conn.setConnectTimeout(HTTP_CONNECTION_TIMEOUT);
+        }
         String adminUser = server.getAdminUser();
         String adminPassword = server.getAdminPassword();
         LOGGER.log(Level.FINEST, METHOD, "setting", new Object[] {
@@ -684,62 +751,51 @@ public abstract class Runner implements Callable<Result> {
         }
     }
 
-    protected void handleSecureConnection(final HttpsURLConnection conn) {
-        final String METHOD = "handleSecureConnection";
-        // let's just trust any server that we connect to...
-        // we aren't send them money or secrets...
-        TrustManager[] tm = new TrustManager[]{
-            new X509TrustManager() {
-
-                @Override
-                public void checkClientTrusted(X509Certificate[] arg0,
-                String arg1) throws CertificateException {
-                }
-
-                @Override
-                public void checkServerTrusted(X509Certificate[] arg0,
-                String arg1) throws CertificateException {
-                }
-
-                @Override
-                public X509Certificate[] getAcceptedIssuers() {
-                    return null;
-                }
+    /**
+     * Get output stream to write request body into.
+     * <p/>
+     * Bytes written are counted in administration commands metrics.
+     * The same stream is returned for repeated calls during one
+     * HTTP exchange.
+     * <p/>
+     * @param hconn Server administration interface HTTP connection.
+     * @return Request body output stream.
+     * @throws IOException when output stream could not be created.
+     */
+    protected OutputStream requestOutputStream(final HttpURLConnection hconn)
+            throws IOException {
+        if (requestStream == null || requestConnection != hconn) {
+            if (requestStream != null) {
+                bytesOut += requestStream.getCount();
             }
-        };
-
-        SSLContext context;
-        try {
-            context = SSLContext.getInstance("SSL");
-            context.init(null, tm, null);
-            conn.setSSLSocketFactory(context.getSocketFactory());
-            conn.setHostnameVerifier(new HostnameVerifier() {
-
-                @Override
-                public boolean verify(String string, SSLSession ssls) {
-                    return true;
-                }
-            });
-        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
-            // if there is an issue here... there will be another exception
-            // later which will take care of the user interaction...
-            LOGGER.log(Level.INFO, METHOD, "issue", conn.getURL());
-            LOGGER.log(Level.INFO, METHOD, "exception", ex);
+            requestStream = new CountingOutputStream(hconn.getOutputStream());
+            requestConnection = hconn;
         }
+        return requestStream;
     }
 
     protected boolean handleReceive(final HttpURLConnection hconn)
             throws IOException {
         final String METHOD = "handleReceive";
         boolean receiveResult = false;
-        InputStream httpInputStream = hconn.getInputStream();
+        boolean skipped = false;
+        CountingInputStream httpInputStream
+                = new CountingInputStream(hconn.getInputStream());
         try {
             receiveResult = readResponse(httpInputStream, hconn);
+            // Response read to its end returns connection into keep alive
+            // cache. Stream is left open so connections pool can close
+            // the connection when evicted.
+            AdminConnectionPool.skip(httpInputStream);
+            skipped = true;
         } finally {
-            try {
-                httpInputStream.close();
-            } catch (IOException ioe) {
-                LOGGER.log(Level.WARNING, METHOD, "exception", ioe);
+            bytesIn += httpInputStream.getCount();
+            if (!skipped) {
+                try {
+                    httpInputStream.close();
+                } catch (IOException ioe) {
+                    LOGGER.log(Level.WARNING, METHOD, "exception", ioe);
+                }
             }
         }
         return receiveResult;
@@ -756,8 +812,43 @@ public abstract class Runner implements Callable<Result> {
     /** Payara server administration interface URL connection. */
     private URLConnection conn;
 
-    /** Payara server administration interface HTTP URL connection. */
-    private HttpURLConnection hconn;
+    /** Payara server administration interface HTTP URL connection.
+     *  May be disconnected by {@link #abort()} from another thread. */
+    private volatile HttpURLConnection hconn;
+
+    /** Payara server connections endpoint. */
+    private AdminConnectionPool.Endpoint endpoint;
+
+    /** Connection to server was established in current attempt. */
+    private boolean connected;
+
+    /** Administration command execution deadline [ms since epoch]. */
+    private long deadline;
+
+    /** Administration command execution timeout expired. */
+    private volatile boolean timedOut;
+
+    /** Administration command execution was aborted. */
+    private volatile boolean aborted;
+
+    /** Number of HTTP exchange attempts. */
+    private int attempts;
+
+    /** Request body output stream of current attempt. */
+    private CountingOutputStream requestStream;
+
+    /** HTTP connection of request body output stream. */
+    private HttpURLConnection requestConnection;
+
+    /** Bytes sent to server in request bodies. */
+    private long bytesOut;
+
+    /** Bytes received from server in responses. */
+    private long bytesIn;
+
+    /** Runner of original deployment executed after substituted redeploy
+     *  failed. */
+    private volatile Runner fallbackRunner;
 
     ////////////////////////////////////////////////////////////////////////////
     // ExecutorService call() method helpers                                  //
@@ -771,34 +862,106 @@ public abstract class Runner implements Callable<Result> {
         urlToConnectTo = null;
         conn = null;
         hconn = null;
+        endpoint = AdminConnectionPool.endpoint(server);
+        attempts = 0;
+        requestStream = null;
+        requestConnection = null;
+        bytesOut = 0;
+        bytesIn = 0;
     }
 
     /**
-     * Creates {@link URLConnection} instance that represents a connection
-     * to Payara server administration interface.
+     * Get time remaining until administration command execution deadline.
      * <p/>
-     * Depending on GlassFisg Tooling Library configuration proxy usage for
-     * loopback addresses may be suppressed.
+     * @return Remaining time [ms], at least <code>1</code>.
+     */
+    private int remainingTime() {
+        final long remaining = deadline - System.currentTimeMillis();
+        return (int)Math.max(1, Math.min(remaining, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Start administration command execution watchdog which aborts
+     * the command when its timeout expires.
      * <p/>
-     * @param urlToConnectTo Payara server administration interface URL.
-     * @return lassFish server administration interface URL connection.
-     * @throws IOException IOException if an I/O error occurs while opening the
-     *                     connection.
+     * @return Future which must be used to stop the watchdog
+     *         when command execution finishes.
      */
-    private static URLConnection openURLConnection(
-            final URL urlToConnectTo) throws IOException {
-        if (!PayaraToolsConfig.getProxyForLoopback()) {
-            InetAddress addr;
-            try {
-                addr = InetAddress.getByName(urlToConnectTo.getHost());
-            } catch (UnknownHostException ex) {
-                addr = null;
-            }
-            if (addr != null && addr.isLoopbackAddress()) {
-                return urlToConnectTo.openConnection(Proxy.NO_PROXY);
+    private ScheduledFuture<?> startWatchdog() {
+        final long timeout = command.getTimeout();
+        deadline = System.currentTimeMillis() + timeout;
+        timedOut = false;
+        return AdminLaneExecutor.getInstance().schedule(new Runnable() {
+            @Override
+            public void run() {
+                timedOut = true;
+                disconnect();
             }
+        }, timeout);
+    }
+
+    /**
+     * Close socket of active HTTP connection to server. Blocked connect,
+     * write or read operation fails immediately.
+     */
+    private void disconnect() {
+        final HttpURLConnection connection = hconn;
+        if (connection != null) {
+            connection.disconnect();
         }
-        return urlToConnectTo.openConnection();
+    }
+
+    /**
+     * Build failure result of administration command which execution
+     * was aborted.
+     * <p/>
+     * @param ex Exception thrown by aborted operation or <code>null</code>.
+     * @return Failure result or <code>null</code> when command execution
+     *         was not aborted.
+     */
+    private Result<?> handleAbort(final Exception ex) {
+        final String METHOD = "handleAbort";
+        final String message = ex != null ? ex.getLocalizedMessage() : null;
+        if (timedOut) {
+            LOGGER.log(Level.INFO, METHOD, "timeout", new Object[] {
+                command.getCommand(), Long.toString(command.getTimeout())});
+            return handleStateChange(TaskState.FAILED, TaskEvent.CMD_TIMEOUT,
+                    stateChangeArgs(message));
+        } else if (aborted) {
+            LOGGER.log(Level.FINE, METHOD, "aborted", command.getCommand());
+            return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
+                    stateChangeArgs(message));
+        }
+        return null;
+    }
+
+    /**
+     * Abort administration command execution.
+     * <p/>
+     * May be called from any thread. Command which was not started yet
+     * won't be executed. Socket of running command is closed so blocked
+     * network operation fails immediately.
+     */
+    void abort() {
+        aborted = true;
+        disconnect();
+        final Runner runner = fallbackRunner;
+        if (runner != null) {
+            runner.abort();
+        }
+    }
+
+    /**
+     * Check whether original deployment will be executed when this command
+     * fails.
+     * <p/>
+     * @return Value of <code>true</code> when this command is redeploy
+     *         substituted for deployment which was not aborted
+     *         or <code>false</code> otherwise.
+     */
+    private boolean fallbackPending() {
+        return !aborted && !timedOut
+                && DeployDigests.getInstance().fallback(command) != null;
     }
 
     /**
@@ -812,9 +975,6 @@ public abstract class Runner implements Callable<Result> {
         do { // deal with possible redirects from 3.1
             oldUrlToConnectTo = urlToConnectTo;
             hconn = (HttpURLConnection)conn;
-            if (conn instanceof HttpsURLConnection) {
-                handleSecureConnection((HttpsURLConnection)conn);
-            }
             prepareHttpConnection(hconn);
             LOGGER.log(Level.FINEST, METHOD, "connect",
                     new Object[] {server.getHost(),
@@ -826,6 +986,11 @@ public abstract class Runner implements Callable<Result> {
             }
             // Connect to server.
             hconn.connect();
+            connected = true;
+            // Abort may have been requested before connection was opened.
+            if (aborted || timedOut) {
+                throw new SocketException("Command execution was aborted");
+            }
             // Send data to server if necessary.
             handleSend(hconn);
             int respCode = hconn.getResponseCode();
@@ -865,7 +1030,7 @@ public abstract class Runner implements Callable<Result> {
             } else {
                 LOGGER.log(Level.FINE, METHOD, "locationMoved", newUrl);
                 urlToConnectTo = new URL(newUrl);
-                conn = openURLConnection(urlToConnectTo);
+                conn = endpoint.open(urlToConnectTo);
                 hconn.disconnect();
             }
         }
@@ -901,6 +1066,21 @@ public abstract class Runner implements Callable<Result> {
         }
     }
 
+    /**
+     * Drop cached knowledge about server administration listener after
+     * connection failure.
+     * <p/>
+     * Listener protocol will be detected again and pooled connections
+     * to the server won't be reused by next command.
+     */
+    private void invalidateConnection() {
+        if (urlToConnectTo != null) {
+            NetUtils.invalidateSecurePort(
+                    urlToConnectTo.getHost(), urlToConnectTo.getPort());
+        }
+        AdminConnectionPool.evict(server);
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // ExecutorService call() method                                          //
     ////////////////////////////////////////////////////////////////////////////
@@ -909,37 +1089,145 @@ public abstract class Runner implements Callable<Result> {
      * Payara server administration command execution call.
      * This is an entry point from <code>executor<code>'s serialization queue.
      * <p/>
+     * Command execution is aborted when command timeout expires.
+     * Command results cache is updated when execution finishes.
+     * Original deployment is executed when redeploy command substituted
+     * for it fails.
+     * <p/>
      * @return Task execution state.
      */
-    @SuppressWarnings("SleepWhileInLoop")
     @Override
-    public Result call() {
+    public Result<?> call() {
+        final String METHOD = "call";
+        final Result<?> callResult = callRecorded();
+        if (callResult.getState() == TaskState.COMPLETED
+                || !fallbackPending()) {
+            return callResult;
+        }
+        final CommandDeploy deploy
+                = DeployDigests.getInstance().fallback(command);
+        LOGGER.log(Level.INFO, METHOD, "fallback", deploy.path.getName());
+        // Original deployment must not be substituted again.
+        deploy.redeployUnchanged = false;
+        final Runner runner = AdminFactory.getInstance(
+                server.getAdminInterface()).getRunner(server, deploy);
+        runner.stateListeners = stateListeners;
+        runner.result = runner.createResult();
+        fallbackRunner = runner;
+        if (aborted) {
+            runner.abort();
+        }
+        result = runner.call();
+        return result;
+    }
+
+    /**
+     * Payara server administration command execution with statistics,
+     * results cache and deployment digests update.
+     * <p/>
+     * @return Task execution state.
+     */
+    private Result<?> callRecorded() {
+        final ScheduledFuture<?> watchdog = startWatchdog();
+        final long start = System.nanoTime();
+        try {
+            return callHttp();
+        } finally {
+            watchdog.cancel(false);
+            AdminMetrics.getInstance().record(server, command, result,
+                    Math.max(attempts - 1, 0), bytesIn, bytesOut,
+                    System.nanoTime() - start);
+            CommandResultCache.getInstance().finished(
+                    server, command, result, cacheGeneration);
+            DeployDigests.getInstance().finished(server, command, result);
+        }
+    }
+
+    /**
+     * Payara server administration command execution using HTTP connection.
+     * <p/>
+     * Command fails immediately when server's circuit breaker is open.
+     * <p/>
+     * @return Task execution state.
+     */
+    private Result<?> callHttp() {
         final String METHOD = "call";
-        boolean httpSucceeded = false;
-        boolean commandSucceeded = false;
-        String commandUrl;
         initCallAttributes();
 
+        if (aborted) {
+            return handleAbort(null);
+        }
         handleStateChange(TaskState.RUNNING, TaskEvent.CMD_RUNNING,
                 stateChangeArgs(null));
+        // Fail fast when server is known to be unreachable.
+        final CircuitBreaker breaker = CircuitBreaker.get(server);
+        final CircuitBreaker.State admission = breaker.allowRequest();
+        if (admission == CircuitBreaker.State.OPEN) {
+            return handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
+                    stateChangeArgs(LOGGER.excMsg(METHOD, "unreachable",
+                    endpoint.getKey())));
+        }
+        try {
+            return callServer(breaker);
+        } finally {
+            if (admission == CircuitBreaker.State.HALF_OPEN) {
+                breaker.trialFinished();
+            }
+        }
+    }
+
+    /**
+     * Payara server administration command HTTP exchange with retries.
+     * <p/>
+     * @param breaker Circuit breaker of target server.
+     * @return Task execution state.
+     */
+    @SuppressWarnings("SleepWhileInLoop")
+    private Result<?> callServer(final CircuitBreaker breaker) {
+        final String METHOD = "call";
+        boolean httpSucceeded = false;
+        boolean commandSucceeded = false;
+        String commandUrl;
         try {
             commandUrl = constructCommandUrl();
         } catch (CommandException ce) {
             return handleStateChange(TaskState.FAILED, TaskEvent.CMD_EXCEPTION,
                     stateChangeArgs(ce.getLocalizedMessage()));
         }
-        // disable ("version".equals(cmd) || "__locations".equals(cmd)) ? 1 : 3;
-        int retries = 1;
+        final RetryPolicy policy = getRetryPolicy();
         LOGGER.log(Level.FINEST, METHOD, "thread", new Object[] {
             commandUrl, Thread.currentThread().getName()});
+        try {
+            if (!endpoint.acquire(remainingTime())) {
+                timedOut = true;
+                return handleAbort(null);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            Result<?> abortResult = handleAbort(ie);
+            return abortResult != null ? abortResult : handleStateChange(
+                    TaskState.FAILED, TaskEvent.EXCEPTION,
+                    stateChangeArgs(ie.getLocalizedMessage()));
+        }
         try {
             urlToConnectTo = new URL(commandUrl);
-            while (!httpSucceeded && retries-- > 0) {
+            while (!httpSucceeded && !aborted && !timedOut) {
+                attempts++;
+                // Failure of this attempt which may be retried.
+                RetryPolicy.Failure failure = null;
+                String failureMessage = null;
+                // Connection may be kept alive only when HTTP exchange
+                // was completed.
+                boolean reusable = false;
+                connected = false;
+                retry = false;
                 try {
-                    conn = openURLConnection(urlToConnectTo);
+                    conn = endpoint.open(urlToConnectTo);
                     if (conn instanceof HttpURLConnection) {
                         StateChange change = handleHTTPConnection();
+                        breaker.recordSuccess();
                         if (change != null) {
+                            reusable = true;
                             return change.handleStateChange();
                         }
                         // Process the response message.
@@ -948,61 +1236,114 @@ public abstract class Runner implements Callable<Result> {
                         // response message contains
                         // "javax.security.auth.login.LoginException".
                         boolean receiveResult = handleReceive(hconn);
+                        reusable = true;
                         boolean processResult = processResponse();
                         commandSucceeded = receiveResult && processResult;
                         if (!auth) {
                             return handleStateChange(TaskState.FAILED,
                                     TaskEvent.AUTH_FAILED,
                                     stateChangeArgs(null, true));
-                        } else if (!commandSucceeded
-                                && !isSilentFailureAllowed()
-                                && LOGGER.isLoggable(Level.FINE)) {
-                            logCommandFailure(METHOD);
+                        } else if (!commandSucceeded && retry) {
+                            failure = RetryPolicy.Failure.SERVER_BUSY;
+                        } else {
+                            if (!commandSucceeded
+                                    && !isSilentFailureAllowed()
+                                    && LOGGER.isLoggable(Level.FINE)) {
+                                logCommandFailure(METHOD);
+                            }
+                            httpSucceeded = true;
                         }
-                        httpSucceeded = true;
                     } else {
                         LOGGER.log(Level.INFO, METHOD,
                                 "unexpectedConnection", urlToConnectTo);
+                        break;
                     }
                 } catch (ProtocolException ex) {
                     handleStateChange(TaskState.FAILED, TaskEvent.EXCEPTION,
                             stateChangeArgs(ex.getLocalizedMessage(), true));
-                    retries = 0;
-                } catch (ConnectException ce) {
-                    return handleStateChange(TaskState.FAILED,
-                            TaskEvent.EXCEPTION,
-                            stateChangeArgs(ce.getLocalizedMessage()));
+                    break;
                 } catch (IOException ex) {
-                    if (retries <= 0) {
-                        return handleStateChange(TaskState.FAILED,
-                                TaskEvent.EXCEPTION, stateChangeArgs(
-                                ex.getLocalizedMessage()));
+                    if (ex instanceof SocketTimeoutException
+                            && deadline - System.currentTimeMillis() <= 0) {
+                        timedOut = true;
+                    }
+                    Result<?> abortResult = handleAbort(ex);
+                    if (abortResult != null) {
+                        return abortResult;
                     }
+                    invalidateConnection();
+                    if (!connected) {
+                        breaker.recordFailure();
+                        failure = RetryPolicy.Failure.CONNECT;
+                    } else if (ex instanceof SocketTimeoutException) {
+                        failure = RetryPolicy.Failure.TIMEOUT;
+                    } else {
+                        failure = RetryPolicy.Failure.IO;
+                    }
+                    failureMessage = ex.getLocalizedMessage();
                 } catch (RuntimeException ex) {
+                    Result<?> abortResult = handleAbort(null);
+                    if (abortResult != null) {
+                        return abortResult;
+                    }
+                    invalidateConnection();
                     return handleStateChange(TaskState.FAILED,
                             TaskEvent.EXCEPTION, stateChangeArgs(
                                     ex.getLocalizedMessage()));
                 } finally {
+                    if (requestStream != null) {
+                        bytesOut += requestStream.getCount();
+                        requestStream = null;
+                        requestConnection = null;
+                    }
                     if (null != hconn) {
-                        hconn.disconnect();
+                        AdminConnectionPool.release(endpoint, hconn,
+                                reusable);
                     }
                 }
 
-                if (!httpSucceeded && retries > 0) {
+                if (failure != null) {
+                    // Request body may have been processed by server already.
+                    final long delay = failure == RetryPolicy.Failure.IO
+                            && getDoOutput()
+                            ? -1
+                            : policy.retryDelay(command, attempts, failure);
+                    if (delay < 0
+                            || delay >= deadline - System.currentTimeMillis()) {
+                        if (failure == RetryPolicy.Failure.SERVER_BUSY) {
+                            break;
+                        }
+                        return handleStateChange(TaskState.FAILED,
+                                TaskEvent.EXCEPTION,
+                                stateChangeArgs(failureMessage));
+                    }
+                    LOGGER.log(Level.FINE, METHOD, "retry", new Object[] {
+                        command.getCommand(), failure.toString(),
+                        Long.toString(delay)});
                     try {
-                        Thread.sleep(HTTP_RETRY_DELAY);
+                        Thread.sleep(delay);
                     } catch (InterruptedException ie) {
                         LOGGER.log(Level.INFO, METHOD, "sleepInterrupted", ie);
+                        Thread.currentThread().interrupt();
+                        Result<?> abortResult = handleAbort(ie);
+                        return abortResult != null ? abortResult
+                                : handleStateChange(TaskState.FAILED,
+                                        TaskEvent.EXCEPTION, stateChangeArgs(
+                                        ie.getLocalizedMessage()));
                     }
                 }
             } // while
         } catch (MalformedURLException ex) {
             LOGGER.log(Level.WARNING, METHOD, "malformedURLException", ex);
+        } finally {
+            endpoint.release();
         }
 
         if (commandSucceeded) {
             return handleStateChange(TaskState.COMPLETED,
                     TaskEvent.CMD_COMPLETED, stateChangeArgs(null));
+        } else if (aborted || timedOut) {
+            return handleAbort(null);
         } else {
             return handleStateChange(TaskState.FAILED, TaskEvent.CMD_FAILED,
                     stateChangeArgs(null));
@@ -50,6 +50,7 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
 import java.net.HttpURLConnection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import static org.netbeans.modules.payara.tooling.admin.RunnerJava.getServerConfig;
@@ -265,11 +266,10 @@ public abstract class RunnerAsadmin extends RunnerJava {
     /**
      * Execute an arbitrary server command.
      * <p/>
-     * @return <code>Future</code> object to retrieve receiveResult of
-     * asynchronous execution.
+     * @return Future completed with receiveResult of asynchronous execution.
      */
     @Override
-    Future<? extends Result> execute() {
+    CompletableFuture<? extends Result<?>> execute() {
         processIO = createProcessIOContent();
         return super.execute();
     }
@@ -281,7 +281,7 @@ public abstract class RunnerAsadmin extends RunnerJava {
      * asynchronous execution.
      */
     @Override
-    Future<? extends Result> execute(final ExecutorService executor) {
+    Future<? extends Result<?>> execute(final ExecutorService executor) {
         processIO = createProcessIOContent();
         return super.execute(executor);
     }
@@ -300,7 +300,7 @@ public abstract class RunnerAsadmin extends RunnerJava {
      * @return Task execution state.
      */
     @Override
-    public Result call() {
+    public Result<?> call() {
         if (!verifyJavaVM()) {
             return handleStateChange(TaskState.FAILED,
                     TaskEvent.NO_JAVA_VM, command.getCommand(),
@@ -228,7 +228,7 @@ public class RunnerHttp extends Runner {
             String url) {
         String retVal = "http";  // NOI18N
         try {
-            if (NetUtils.isSecurePort(hostname, port)) {
+            if (NetUtils.isSecurePortCached(hostname, port)) {
                 retVal = "https"; // NOI18N
             }
         } catch (ConnectException ex) {
@@ -433,7 +433,13 @@ public class RunnerHttp extends Runner {
             Logger.log(Level.FINEST, "Reading response from {0}:{1}",
                     new Object[] {server.getHost(),
                         Integer.toString(server.getAdminPort())});
-            manifest.read(in);
+            ManifestReader.Handler handler = manifestHandler();
+            if (handler != null) {
+                new ManifestReader(in).read(
+                        manifest.getMainAttributes(), handler);
+            } else {
+                manifest.read(in);
+            }
         } catch (IOException ioe) {
             throw new CommandException(CommandException.HTTP_RESP_IO_EXCEPTION,
                     ioe);
@@ -456,6 +462,21 @@ public class RunnerHttp extends Runner {
         return readResult;
     }
 
+    /**
+     * Get handler of manifest entries for streaming response processing.
+     * <p/>
+     * When handler is provided, only main attributes are stored
+     * in <code>manifest</code> and entries are passed to the handler
+     * while server response is being read. Runners processing large
+     * responses override this method.
+     * <p/>
+     * @return Handler of manifest entries or <code>null</code> when
+     *         complete manifest shall be read.
+     */
+    ManifestReader.Handler manifestHandler() {
+        return null;
+    }
+
     /**
      * Extracts result value from internal <code>Manifest</code> object.
      * Value of <i>message</i> attribute in <code>Manifest</code> object is
@@ -43,8 +43,15 @@ package org.netbeans.modules.payara.tooling.admin;
 
 import java.io.*;
 import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Enumeration;
 import java.util.logging.Level;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 import org.netbeans.modules.payara.tooling.logging.Logger;
 import org.netbeans.modules.payara.tooling.utils.Utils;
@@ -93,10 +100,70 @@ public class RunnerHttpDeploy extends RunnerHttp {
     /** Deploy command <code>force</code> parameter value. */
     private static final boolean FORCE_VALUE = true;
 
+    /** Size of buffer used to read deployed file content
+     *  to compute CRC [bytes]. */
+    private static final int CRC_BUFFER_SIZE = 64 * 1024;
+
+    /** Archive is considered already compressed when its entries
+     *  compressed size is below this percentage of their size. */
+    private static final int COMPRESSED_RATIO = 90;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Check whether deployed archive content is already compressed.
+     * <p/>
+     * Only sizes stored in archive directory are compared so archive
+     * content is not read. Files which are not readable ZIP archives
+     * are considered uncompressed.
+     * <p/>
+     * @param file Deployed archive.
+     * @return Value of <code>true</code> when archive entries are compressed
+     *         or <code>false</code> otherwise.
+     */
+    static boolean isCompressed(final File file) {
+        long size = 0;
+        long compressedSize = 0;
+        try (ZipFile zip = new ZipFile(file)) {
+            for (Enumeration<? extends ZipEntry> entries = zip.entries();
+                    entries.hasMoreElements(); ) {
+                ZipEntry entry = entries.nextElement();
+                if (entry.getSize() > 0 && entry.getCompressedSize() >= 0) {
+                    size += entry.getSize();
+                    compressedSize += entry.getCompressedSize();
+                }
+            }
+        } catch (IOException ioe) {
+            return false;
+        }
+        return size > 0 && compressedSize * 100 < size * COMPRESSED_RATIO;
+    }
+
+    /**
+     * Compute CRC-32 checksum of file content.
+     * <p/>
+     * File content is read in chunks into single buffer. File is not mapped
+     * into memory so it's not locked after checksum is computed.
+     * <p/>
+     * @param channel File channel to read content from.
+     * @return CRC-32 checksum of file content.
+     * @throws IOException when file content could not be read.
+     */
+    private static long crc(final FileChannel channel) throws IOException {
+        final CRC32 crc = new CRC32();
+        final ByteBuffer buffer = ByteBuffer.allocate(CRC_BUFFER_SIZE);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer, position)) > 0) {
+            crc.update(buffer.array(), 0, read);
+            position += read;
+            buffer.clear();
+        }
+        return crc.getValue();
+    }
+
     /**
      * Builds deploy query string for given command.
      * <p/>
@@ -235,48 +302,128 @@ public class RunnerHttpDeploy extends RunnerHttp {
      * from the server's code repository. Since some asadmin commands
      * need to send multiple files, the server assumes the input is a ZIP
      * stream.
+     * <p/>
+     * Deployed file is sent as <code>STORED</code> entry when compressing
+     * it again won't pay off: when server runs on local host or when
+     * archive content is already compressed. Otherwise it is sent
+     * as <code>DEFLATED</code> entry.
+     * <p/>
+     * Time spent in preparation and upload phases and bytes sent are
+     * recorded in command execution statistics.
      */
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         final String METHOD = "handleSend";
-        InputStream istream = getInputStream();
-        if(istream != null) {
-            ZipOutputStream ostream = null;
-            try {
-                ostream = new ZipOutputStream(new BufferedOutputStream(
-                        hconn.getOutputStream(), 1024*1024));
-                ZipEntry e = new ZipEntry(command.path.getName());
-                e.setExtra(getExtraProperties());
-                ostream.putNextEntry(e);
-                byte buffer[] = new byte[1024*1024];
-                while (true) {
-                    int n = istream.read(buffer);
-                    if (n < 0) {
-                        break;
-                    }
-                    ostream.write(buffer, 0, n);
+        final DeployStatistics statistics = new DeployStatistics(
+                command.dirDeploy ? 0 : command.path.length());
+        command.statistics = statistics;
+        if (command.dirDeploy) {
+            if ("POST".equalsIgnoreCase(getRequestMethod())) {
+                LOGGER.log(Level.INFO, METHOD, "noData");
+            }
+            statistics.lap(this, DeployStatistics.Phase.PREPARE);
+            return;
+        }
+        final boolean stored = useStored();
+        FileInputStream istream = null;
+        ZipOutputStream ostream = null;
+        try {
+            istream = new FileInputStream(command.path);
+            final FileChannel channel = istream.getChannel();
+            ostream = new ZipOutputStream(new BufferedOutputStream(
+                    statistics.count(requestOutputStream(hconn)), 1024*1024));
+            ZipEntry e = new ZipEntry(command.path.getName());
+            e.setExtra(getExtraProperties());
+            if (stored) {
+                final long size = channel.size();
+                e.setMethod(ZipEntry.STORED);
+                e.setSize(size);
+                e.setCompressedSize(size);
+                e.setCrc(crc(channel));
+            }
+            LOGGER.log(Level.FINE, METHOD, "method",
+                    new Object[] {command.path.getName(),
+                        stored ? "STORED" : "DEFLATED"});
+            ostream.putNextEntry(e);
+            statistics.lap(this, DeployStatistics.Phase.PREPARE);
+            final WritableByteChannel out = Channels.newChannel(ostream);
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                final long sent = channel.transferTo(
+                        position, size - position, out);
+                // Nothing is transferred when file was truncated.
+                if (sent <= 0) {
+                    throw new EOFException(LOGGER.excMsg(METHOD, "truncated",
+                            command.path.getName(),
+                            Long.toString(position), Long.toString(size)));
                 }
-                ostream.closeEntry();
-                ostream.flush();
-            } finally {
+                position += sent;
+            }
+            ostream.closeEntry();
+            ostream.finish();
+            ostream.flush();
+            statistics.lap(this, DeployStatistics.Phase.UPLOAD);
+        } catch (FileNotFoundException fnfe) {
+            LOGGER.log(Level.INFO, METHOD, "fileNotFound", fnfe);
+        } finally {
+            if (istream != null) {
                 try {
                     istream.close();
                 } catch(IOException ex) {
                     LOGGER.log(Level.INFO, METHOD, "ioException", ex);
                 }
-                if(ostream != null) {
-                    try {
-                        ostream.close();
-                    } catch(IOException ex) {
-                        LOGGER.log(Level.INFO, METHOD, "ioException", ex);
-                    }
+            }
+            if(ostream != null) {
+                try {
+                    ostream.close();
+                } catch(IOException ex) {
+                    LOGGER.log(Level.INFO, METHOD, "ioException", ex);
                 }
             }
-        } else if("POST".equalsIgnoreCase(getRequestMethod())) {
-            LOGGER.log(Level.INFO, METHOD, "noData");
         }
     }
 
+    /**
+     * Handle receiving response from server.
+     * <p/>
+     * Time spent waiting for server and reading its response is recorded
+     * in command execution statistics.
+     * <p/>
+     * @param hconn Server administration interface HTTP connection.
+     * @return Response reading result.
+     * @throws IOException when response could not be read.
+     */
+    @Override
+    protected boolean handleReceive(final HttpURLConnection hconn)
+            throws IOException {
+        final DeployStatistics statistics = command.statistics;
+        if (statistics == null) {
+            return super.handleReceive(hconn);
+        }
+        statistics.lap(this, DeployStatistics.Phase.SERVER);
+        try {
+            return super.handleReceive(hconn);
+        } finally {
+            statistics.lap(this, DeployStatistics.Phase.RESPONSE);
+        }
+    }
+
+    /**
+     * Choose whether deployed file is sent as <code>STORED</code>
+     * or <code>DEFLATED</code> ZIP entry.
+     * <p/>
+     * Loopback link to local server is fast enough so compression would
+     * only waste CPU time. Already compressed archive content won't shrink
+     * noticeably when compressed again.
+     * <p/>
+     * @return Value of <code>true</code> when deployed file shall be sent
+     *         as <code>STORED</code> entry.
+     */
+    boolean useStored() {
+        return !server.isRemote() || isCompressed(command.path);
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Fake Getters                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -294,8 +441,7 @@ public class RunnerHttpDeploy extends RunnerHttp {
     }
 
     /**
-     * Provide the lastModified date for data source whose
-     * <code>InputStream</code> is returned by getInputStream.
+     * Provide the lastModified date of deployed file.
      * <p/>
      * @return String format of long integer from lastModified date of source.
      */
@@ -304,24 +450,4 @@ public class RunnerHttpDeploy extends RunnerHttp {
         return Long.toString(command.path.lastModified());
     }
 
-    /**
-     * Get <code>InputStream</code> object for deployed file.
-     * <p/>
-     * @return <code>InputStream</code> object for deployed file
-     *         or <code>null</code> for directory deployment.
-     */
-    public InputStream getInputStream() {
-        final String METHOD = "getInputStream";
-        if (command.dirDeploy) {
-            return null;
-        } else {
-            try {
-                return new FileInputStream(command.path);
-            } catch (FileNotFoundException fnfe) {
-                LOGGER.log(Level.INFO, METHOD, "fileNotFound", fnfe);
-                return null;
-            }
-        }
-    }
-
 }
@@ -41,8 +41,6 @@
 
 package org.netbeans.modules.payara.tooling.admin;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.logging.Level;
 import org.netbeans.modules.payara.tooling.logging.Logger;
@@ -71,6 +69,9 @@ public class RunnerHttpGetProperty extends RunnerHttp {
     @SuppressWarnings("FieldNameHidesFieldInSuperclass")
     ResultMap<String, String> result;
 
+    /** Properties decoded while server response is being read. */
+    private HashMap<String, String> properties;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -84,7 +85,7 @@ public class RunnerHttpGetProperty extends RunnerHttp {
     public RunnerHttpGetProperty(final PayaraServer server,
             final Command command) {
         super(server, command,
-                "pattern=" + ((CommandGetProperty)command).propertyPattern);
+                ((CommandGetProperty)command).patternParams());
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -100,58 +101,86 @@ public class RunnerHttpGetProperty extends RunnerHttp {
         return result = new ResultMap<String, String>();
     }
 
+    /**
+     * Get handler of manifest entries which stores decoded properties
+     * while server response is being read.
+     * <p/>
+     * @return Handler of manifest entries.
+     */
     @Override
-    protected boolean processResponse() {
-        final String METHOD = "processResponse";
-        if (manifest == null) {
-            LOGGER.log(Level.WARNING, METHOD, "manifestNull", query);
-            return false;
-        }
-        result.value = new HashMap<String, String>();
-        for (String encodedkey : manifest.getEntries().keySet()) {
-            String key = "";
-            try {
-                if (null != encodedkey) {
-                    key = encodedkey;
-                    key = URLDecoder.decode(encodedkey, "UTF-8");
-                }
-            } catch (UnsupportedEncodingException uee) {
-                LOGGER.log(Level.INFO, METHOD,
-                        "unsupportedEncoding", encodedkey);
-                LOGGER.log(Level.INFO, METHOD, "exceptionDetails", uee);
-            } catch (IllegalArgumentException iae) {
-                // Ignore this for now
+    ManifestReader.Handler manifestHandler() {
+        properties = new HashMap<>();
+        return new ManifestReader.Handler() {
+            @Override
+            public boolean entry(final String name) {
+                addProperty(name);
+                return false;
             }
-            int equalsIndex = key.indexOf('=');
-            if (equalsIndex >= 0) {
-                String keyPart = key.substring(0, equalsIndex);
-                String valuePart = key.substring(equalsIndex + 1);
-                try {
-                    // Around Sept. 2008... 3.x servers were double encoding their
-                    // responces.  It appears that has stopped
-                    // (See http://netbeans.org/bugzilla/show_bug.cgi?id=195015)
-                    // The open question is, "When did 3.x stop doing the double
-                    // encode?" since we don't know... this strategy will work
-                    // for us
-                    //   Belt and suspenders, like
-                    result.value.put(keyPart, valuePart);       // raw form
-                    result.value.put(keyPart, URLDecoder.decode(valuePart,
-                            "UTF-8"));                          // single decode
-                    result.value.put(keyPart, URLDecoder.decode(result.value.
-                            get(keyPart), "UTF-8"));
-                } catch (UnsupportedEncodingException ex) {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "unsupportedEncoding", result.value.get(keyPart));
-                } catch (IllegalArgumentException iae) {
+            @Override
+            public void attribute(final String entry, final String name,
+                    final String value) {
+            }
+        };
+    }
+
+    /**
+     * Decode property returned by server as <code>key=value</code> manifest
+     * entry name and store it into properties map.
+     * <p/>
+     * @param entry Manifest entry name.
+     */
+    private void addProperty(final String entry) {
+        final String METHOD = "addProperty";
+        String key = ManifestReader.decode(entry);
+        if (key == null) {
+            key = entry;
+        }
+        int equalsIndex = key.indexOf('=');
+        if (equalsIndex >= 0) {
+            String keyPart = key.substring(0, equalsIndex);
+            String valuePart = key.substring(equalsIndex + 1);
+            // Around Sept. 2008... 3.x servers were double encoding their
+            // responces.  It appears that has stopped
+            // (See http://netbeans.org/bugzilla/show_bug.cgi?id=195015)
+            // The open question is, "When did 3.x stop doing the double
+            // encode?" since we don't know... this strategy will work
+            // for us: value is decoded twice when possible, once when
+            // second decoding fails and kept raw when it can't be decoded.
+            String value = ManifestReader.decode(valuePart);
+            if (value == null) {
+                LOGGER.log(Level.INFO, METHOD, "illegalArgument",
+                        new Object[] {keyPart, valuePart});
+                value = valuePart;
+            } else {
+                String twice = ManifestReader.decode(value);
+                if (twice != null) {
+                    value = twice;
+                } else {
                     LOGGER.log(Level.INFO, METHOD, "illegalArgument",
-                            new Object[] {valuePart, result.value.get(keyPart)});
+                            new Object[] {keyPart, value});
                 }
-            } else {
-                LOGGER.log(Level.WARNING, METHOD, "emptyString", key);
-                result.value.put(key, "");
             }
+            properties.put(keyPart, value);
+        } else {
+            LOGGER.log(Level.WARNING, METHOD, "emptyString", key);
+            properties.put(key, "");
         }
+    }
 
+    /**
+     * Store properties decoded from server response into result.
+     * <p/>
+     * @return Value of <code>true</code> when response was processed.
+     */
+    @Override
+    protected boolean processResponse() {
+        final String METHOD = "processResponse";
+        if (manifest == null || properties == null) {
+            LOGGER.log(Level.WARNING, METHOD, "manifestNull", query);
+            return false;
+        }
+        result.value = properties;
         return true;
     }
+
 }
@@ -41,11 +41,8 @@
 
 package org.netbeans.modules.payara.tooling.admin;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.util.HashMap;
 import java.util.List;
-import org.netbeans.modules.payara.tooling.utils.JavaUtils;
 import org.netbeans.modules.payara.tooling.utils.ServerUtils;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
 
@@ -100,6 +97,17 @@ public class RunnerHttpListComponents extends RunnerHttpTarget {
         return result = new ResultMap<String, List<String>>();
     }
 
+    /**
+     * Get handler of manifest entries. Components are listed in main
+     * attributes so entries are skipped.
+     * <p/>
+     * @return Handler skipping all manifest entries.
+     */
+    @Override
+    ManifestReader.Handler manifestHandler() {
+        return ManifestReader.SKIP_ENTRIES;
+    }
+
    /**
      * Extracts result value from internal <code>Manifest</code> object.
      * Value of <i>message</i> attribute in <code>Manifest</code> object is
@@ -118,11 +126,8 @@ public class RunnerHttpListComponents extends RunnerHttpTarget {
         result.value = new HashMap<String, List<String>>();
         if (components != null) {
             for (String component : components) {
-                String decodedComponent;
-                try {
-                    decodedComponent = URLDecoder.decode(
-                            component, JavaUtils.UTF_8.name());
-                } catch (UnsupportedEncodingException ex) {
+                String decodedComponent = ManifestReader.decode(component);
+                if (decodedComponent == null) {
                     decodedComponent = component;
                 }
                 ServerUtils.addComponentToMap(result.value, decodedComponent);
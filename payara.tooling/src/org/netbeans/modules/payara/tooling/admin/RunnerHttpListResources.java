@@ -41,10 +41,8 @@
 
 package org.netbeans.modules.payara.tooling.admin;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.util.ArrayList;
-import java.util.jar.Attributes;
+import java.util.HashMap;
 import org.netbeans.modules.payara.tooling.utils.ServerUtils;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
 
@@ -56,6 +54,13 @@ import org.netbeans.modules.payara.tooling.data.PayaraServer;
  */
 public class RunnerHttpListResources extends RunnerHttpTarget {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Name of manifest entry attribute containing resource name. */
+    private static final String MESSAGE_ATTR = "message";
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -73,6 +78,10 @@ public class RunnerHttpListResources extends RunnerHttpTarget {
     @SuppressWarnings("FieldNameHidesFieldInSuperclass")
     ResultList<String> result;
 
+    /** Values of <i>message</i> attribute of manifest entries read
+     *  from server response. */
+    private HashMap<String, String> messages;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -102,6 +111,30 @@ public class RunnerHttpListResources extends RunnerHttpTarget {
         return result = new ResultList<String>();
     }
 
+    /**
+     * Get handler of manifest entries which stores value of <i>message</i>
+     * attribute of each resource entry while server response is being read.
+     * <p/>
+     * @return Handler of manifest entries.
+     */
+    @Override
+    ManifestReader.Handler manifestHandler() {
+        messages = new HashMap<>();
+        return new ManifestReader.Handler() {
+            @Override
+            public boolean entry(final String name) {
+                return true;
+            }
+            @Override
+            public void attribute(final String entry, final String name,
+                    final String value) {
+                if (MESSAGE_ATTR.equalsIgnoreCase(name)) {
+                    messages.put(entry, value);
+                }
+            }
+        };
+    }
+
     /**
      * Extracts result value from internal
      * <code>Manifest</code> object.
@@ -124,21 +157,16 @@ public class RunnerHttpListResources extends RunnerHttpTarget {
         result.value = new ArrayList<String>(resoucesCount);
         if (resources != null) {
             for (String resource : resources) {
-                Attributes resourceAttr = manifest.getAttributes(resource);
-                String resourceMsg = resourceAttr.getValue("message");
-                String name;
-                try {
-                    if (resourceMsg != null) {
-                        name = URLDecoder.decode(resourceMsg, "UTF-8");
-                    } else {
-                        name = null;
-                    }
-                    if (name == null || name.length() <= 0) {
-                        name = URLDecoder.decode(resource.trim(), "UTF-8");
+                String resourceMsg = messages != null
+                        ? messages.get(resource) : null;
+                String name = resourceMsg != null
+                        ? ManifestReader.decode(resourceMsg) : null;
+                if (name == null || name.length() <= 0) {
+                    name = resource.trim();
+                    String decodedName = ManifestReader.decode(name);
+                    if (decodedName != null) {
+                        name = decodedName;
                     }
-                } catch (UnsupportedEncodingException uee) {
-                    throw new CommandException(
-                            CommandException.HTTP_RESP_UNS_ENC_EXCEPTION, uee);
                 }
                 result.value.add(name);
             }
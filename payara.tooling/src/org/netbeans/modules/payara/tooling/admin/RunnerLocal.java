@@ -241,7 +241,7 @@ public class RunnerLocal extends RunnerJava {
      * @return Task execution state.
      */
     @Override
-    public Result call() {
+    public Result<?> call() {
         String javaVmExe = JavaUtils.javaVmExecutableFullPath(command.javaHome);
         File javaVmFile = new File(javaVmExe);
         // Java VM executable should exist.
@@ -53,6 +53,7 @@ import org.netbeans.modules.payara.tooling.admin.response.ResponseContentType;
 import org.netbeans.modules.payara.tooling.admin.response.ResponseParserFactory;
 import org.netbeans.modules.payara.tooling.admin.response.RestActionReport;
 import org.netbeans.modules.payara.tooling.admin.response.RestResponseParser;
+import org.netbeans.modules.payara.tooling.admin.response.RestJSONResponseParser;
 import org.netbeans.modules.payara.tooling.utils.ServerUtils;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
 
@@ -264,7 +265,12 @@ public class RunnerRest extends Runner {
      */
     @Override
     protected boolean readResponse(InputStream in, HttpURLConnection hconn) {
-        report = parser.parse(in);
+        final RestJSONResponseParser.ChildrenHandler handler
+                = parser instanceof RestJSONResponseParser
+                ? childrenHandler() : null;
+        report = handler != null
+                ? ((RestJSONResponseParser)parser).parse(in, handler)
+                : parser.parse(in);
         return isSuccess();
     }
 
@@ -280,6 +286,19 @@ public class RunnerRest extends Runner {
         return isSuccess();
     }
 
+    /**
+     * Get handler of top level message children to process them while
+     * JSON response is being read.
+     * <p/>
+     * Children are stored in report message parts when no handler
+     * is provided. Default is no handler.
+     * <p/>
+     * @return Handler of top level message children or <code>null</code>.
+     */
+    RestJSONResponseParser.ChildrenHandler childrenHandler() {
+        return null;
+    }
+
     /**
      * Added to give descendants possibility to decide what report state has
      * successful meaning.
@@ -69,7 +69,7 @@ public class RunnerRestAddResources extends RunnerRest {
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         CommandAddResources cmd = (CommandAddResources)command;
         OutputStreamWriter wr =
-                new OutputStreamWriter(hconn.getOutputStream());
+                new OutputStreamWriter(requestOutputStream(hconn));
         StringBuilder data = new StringBuilder();
         data.append("xml_file_name=").append(cmd.xmlResFile.getAbsolutePath());
         if (cmd.target != null) {
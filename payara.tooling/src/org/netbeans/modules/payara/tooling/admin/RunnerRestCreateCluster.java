@@ -82,7 +82,7 @@ public class RunnerRestCreateCluster extends RunnerRest {
     
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          wr.write("name=" + ((CommandTarget)command).target);
          wr.flush();
          wr.close();
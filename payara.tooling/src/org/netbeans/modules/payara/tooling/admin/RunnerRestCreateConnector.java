@@ -71,7 +71,7 @@ public class RunnerRestCreateConnector extends RunnerRest {
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         CommandCreateConnector cmd = (CommandCreateConnector)command;
         OutputStreamWriter wr =
-                new OutputStreamWriter(hconn.getOutputStream());
+                new OutputStreamWriter(requestOutputStream(hconn));
         StringBuilder data = new StringBuilder();
         data.append("jndi_name=").append(cmd.jndiName);
         data.append("&enabled=").append(cmd.enabled);
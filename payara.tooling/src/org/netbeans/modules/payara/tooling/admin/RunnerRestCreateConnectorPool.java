@@ -71,7 +71,7 @@ public class RunnerRestCreateConnectorPool extends RunnerRest {
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         CommandCreateConnectorConnectionPool cmd = (CommandCreateConnectorConnectionPool)command;
         OutputStreamWriter wr =
-                new OutputStreamWriter(hconn.getOutputStream());
+                new OutputStreamWriter(requestOutputStream(hconn));
         StringBuilder data = new StringBuilder();
         data.append("poolname=").append(cmd.poolName);
         data.append("&raname=").append(cmd.raName);
@@ -71,7 +71,7 @@ public class RunnerRestCreateJDBCConnectionPool extends RunnerRest {
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         CommandCreateJDBCConnectionPool cmd = (CommandCreateJDBCConnectionPool)command;
         OutputStreamWriter wr =
-                new OutputStreamWriter(hconn.getOutputStream());
+                new OutputStreamWriter(requestOutputStream(hconn));
         StringBuilder data = new StringBuilder();
         data.append("jdbc_connection_pool_id=").append(cmd.connectionPoolId);
         data.append("&datasourceClassname=").append(cmd.dataSourceClassName);
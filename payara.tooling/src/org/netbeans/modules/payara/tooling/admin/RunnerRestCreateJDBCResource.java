@@ -71,7 +71,7 @@ public class RunnerRestCreateJDBCResource extends RunnerRest {
     protected void handleSend(HttpURLConnection hconn) throws IOException {
         CommandCreateJDBCResource cmd = (CommandCreateJDBCResource)command;
         OutputStreamWriter wr =
-                new OutputStreamWriter(hconn.getOutputStream());
+                new OutputStreamWriter(requestOutputStream(hconn));
         StringBuilder data = new StringBuilder();
         data.append("jndi_name=").append(cmd.jndiName);
         data.append("&connectionpoolid=").append(cmd.connectionPoolId);
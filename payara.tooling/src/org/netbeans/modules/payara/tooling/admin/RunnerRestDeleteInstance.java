@@ -67,7 +67,7 @@ public class RunnerRestDeleteInstance extends RunnerRest {
 
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          CommandDeleteInstance deleteCommand = (CommandDeleteInstance) command;
          StringBuilder data = new StringBuilder();
          data.append("instance_name=").append(deleteCommand.target);
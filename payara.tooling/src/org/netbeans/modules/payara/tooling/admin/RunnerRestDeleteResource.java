@@ -69,7 +69,7 @@ public class RunnerRestDeleteResource extends RunnerRest {
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
          CommandDeleteResource cmd = (CommandDeleteResource) command;
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          wr.write(cmd.cmdPropertyName + "=" + cmd.name);
          wr.flush();
          wr.close();
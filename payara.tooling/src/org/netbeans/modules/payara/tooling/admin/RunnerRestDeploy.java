@@ -99,6 +99,9 @@ public class RunnerRestDeploy extends RunnerRest {
      * from the server's code repository. Since some asadmin commands
      * need to send multiple files, the server assumes the input is a ZIP
      * stream.
+     * <p/>
+     * Time spent in preparation and upload phases and bytes sent are
+     * recorded in command execution statistics.
      */
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
@@ -107,7 +110,11 @@ public class RunnerRestDeploy extends RunnerRest {
             throw new PayaraIdeException("The path attribute of deploy command"
                     + " has to be non-empty!");
         }
-        OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+        final DeployStatistics statistics = new DeployStatistics(
+                command.dirDeploy ? 0 : command.path.length());
+        command.statistics = statistics;
+        OutputStream output = statistics.count(requestOutputStream(hconn));
+        OutputStreamWriter wr = new OutputStreamWriter(output);
         if (!command.dirDeploy) {
             writeParam(wr, "path", command.path.getAbsolutePath());
             if (command.name != null) {
@@ -120,8 +127,11 @@ public class RunnerRestDeploy extends RunnerRest {
                 writeParam(wr, "target", command.target);
             }
 
-            writeBinaryFile(wr, hconn.getOutputStream(), command.path);
+            statistics.lap(this, DeployStatistics.Phase.PREPARE);
+            writeBinaryFile(wr, output, command.path);
             wr.append("--" + multipartBoundary + "--").append(NEWLINE);
+            wr.close();
+            statistics.lap(this, DeployStatistics.Phase.UPLOAD);
         } else {
             wr.write("path=" + command.path.toString());
             if (command.name != null) {
@@ -136,9 +146,34 @@ public class RunnerRestDeploy extends RunnerRest {
                 wr.write("&");
                 wr.write("target=" + command.target);
             }
+            wr.close();
+            statistics.lap(this, DeployStatistics.Phase.PREPARE);
         }
+    }
 
-        wr.close();
+    /**
+     * Handle receiving response from server.
+     * <p/>
+     * Time spent waiting for server and reading its response is recorded
+     * in command execution statistics.
+     * <p/>
+     * @param hconn Server administration interface HTTP connection.
+     * @return Response reading result.
+     * @throws IOException when response could not be read.
+     */
+    @Override
+    protected boolean handleReceive(final HttpURLConnection hconn)
+            throws IOException {
+        final DeployStatistics statistics = command.statistics;
+        if (statistics == null) {
+            return super.handleReceive(hconn);
+        }
+        statistics.lap(this, DeployStatistics.Phase.SERVER);
+        try {
+            return super.handleReceive(hconn);
+        } finally {
+            statistics.lap(this, DeployStatistics.Phase.RESPONSE);
+        }
     }
 
     private void writeParam(OutputStreamWriter writer, String paramName,
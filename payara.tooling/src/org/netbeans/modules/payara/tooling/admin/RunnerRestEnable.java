@@ -71,7 +71,7 @@ public class RunnerRestEnable extends RunnerRest {
         CommandTargetName commandApp = (CommandTargetName)command;
         String target = commandApp.target;
         OutputStreamWriter wr =
-                new OutputStreamWriter(hconn.getOutputStream());
+                new OutputStreamWriter(requestOutputStream(hconn));
         StringBuilder data = new StringBuilder();
         data.append("component=").append(commandApp.name);
         if (target != null) {
@@ -43,13 +43,11 @@ package org.netbeans.modules.payara.tooling.admin;
 
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
-import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.logging.Level;
-import org.netbeans.modules.payara.tooling.admin.response.MessagePart;
+import org.netbeans.modules.payara.tooling.admin.response.JSONReader;
+import org.netbeans.modules.payara.tooling.admin.response.RestJSONResponseParser;
 import org.netbeans.modules.payara.tooling.logging.Logger;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
 
@@ -68,6 +66,9 @@ public class RunnerRestGetProperty extends RunnerRest {
     private static final Logger LOGGER
             = new Logger(RunnerRestGetProperty.class);
 
+    /** Message attribute of top level message children. */
+    private static final String MESSAGE_ATTR = "message";
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -76,6 +77,9 @@ public class RunnerRestGetProperty extends RunnerRest {
     @SuppressWarnings("FieldNameHidesFieldInSuperclass")
     ResultMap<String, String> result;
 
+    /** Properties decoded while server response is being read. */
+    private HashMap<String, String> properties;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -105,56 +109,98 @@ public class RunnerRestGetProperty extends RunnerRest {
         return result = new ResultMap<String, String>();
     }
 
+    /**
+     * Get handler of top level message children which reads property
+     * messages and stores decoded properties while server response
+     * is being read.
+     * <p/>
+     * Only <code>message</code> attribute of each child is read.
+     * <p/>
+     * @return Handler of top level message children.
+     */
     @Override
-    protected boolean processResponse() {
-        final String METHOD = "processResponse";
-        List<MessagePart> childMessages = report.getTopMessagePart().getChildren();
-        if ((childMessages == null) || childMessages.isEmpty()) {
-            return false;
-        }
-        result.value = new HashMap<String, String>(childMessages.size());
-        
-        for (MessagePart msg : childMessages) {
-            String message = msg.getMessage();
-            int equalsIndex = message.indexOf('=');
-            if (equalsIndex >= 0) {
-                String keyPart = message.substring(0, equalsIndex);
-                String valuePart = message.substring(equalsIndex + 1);
-                try {
-                    // Around Sept. 2008... 3.x servers were double encoding their
-                    // responces.  It appears that has stopped
-                    // (See http://netbeans.org/bugzilla/show_bug.cgi?id=195015)
-                    // The open question is, "When did 3.x stop doing the double
-                    // encode?" since we don't know... this strategy will work
-                    // for us
-                    //   Belt and suspenders, like
-                    result.value.put(keyPart, valuePart);       // raw form
-                    result.value.put(keyPart, URLDecoder.decode(valuePart,
-                            "UTF-8"));                          // single decode
-                    result.value.put(keyPart, URLDecoder.decode(result.value.
-                            get(keyPart), "UTF-8"));
-                } catch (UnsupportedEncodingException ex) {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "unsupportedEncoding", result.value.get(keyPart));
-                } catch (IllegalArgumentException iae) {
-                    LOGGER.log(Level.INFO, METHOD, "illegalArgument",
-                            new Object[] {valuePart, result.value.get(keyPart)});
+    RestJSONResponseParser.ChildrenHandler childrenHandler() {
+        properties = new HashMap<>();
+        return new RestJSONResponseParser.ChildrenHandler() {
+            @Override
+            public void child(final JSONReader reader) throws IOException {
+                String message = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (MESSAGE_ATTR.equals(reader.nextName())
+                            && reader.peek() != JSONReader.Token.NULL) {
+                        message = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
                 }
+                reader.endObject();
+                if (message != null) {
+                    addProperty(message);
+                }
+            }
+        };
+    }
+
+    /**
+     * Decode property returned by server as <code>key=value</code> message
+     * and store it into properties map.
+     * <p/>
+     * @param message Property message.
+     */
+    private void addProperty(final String message) {
+        final String METHOD = "addProperty";
+        int equalsIndex = message.indexOf('=');
+        if (equalsIndex >= 0) {
+            String keyPart = message.substring(0, equalsIndex);
+            String valuePart = message.substring(equalsIndex + 1);
+            // Around Sept. 2008... 3.x servers were double encoding their
+            // responces.  It appears that has stopped
+            // (See http://netbeans.org/bugzilla/show_bug.cgi?id=195015)
+            // The open question is, "When did 3.x stop doing the double
+            // encode?" since we don't know... this strategy will work
+            // for us: value is decoded twice when possible, once when
+            // second decoding fails and kept raw when it can't be decoded.
+            String value = ManifestReader.decode(valuePart);
+            if (value == null) {
+                LOGGER.log(Level.INFO, METHOD, "illegalArgument",
+                        new Object[] {keyPart, valuePart});
+                value = valuePart;
             } else {
-                LOGGER.log(Level.INFO, METHOD, "emptyString", message);
-                result.value.put(message, "");
+                String twice = ManifestReader.decode(value);
+                if (twice != null) {
+                    value = twice;
+                } else {
+                    LOGGER.log(Level.INFO, METHOD, "illegalArgument",
+                            new Object[] {keyPart, value});
+                }
             }
+            properties.put(keyPart, value);
+        } else {
+            LOGGER.log(Level.INFO, METHOD, "emptyString", message);
+            properties.put(message, "");
+        }
+    }
+
+    /**
+     * Store properties decoded from server response into result.
+     * <p/>
+     * @return Value of <code>true</code> when some properties were returned.
+     */
+    @Override
+    protected boolean processResponse() {
+        if (properties == null || properties.isEmpty()) {
+            return false;
         }
+        result.value = properties;
         return true;
     }
-    
+
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          CommandGetProperty gpCommand = (CommandGetProperty) command;
-         StringBuilder data = new StringBuilder();
-         data.append("pattern=").append(gpCommand.propertyPattern);
-         wr.write(data.toString());
+         wr.write(gpCommand.patternParams());
          wr.flush();
          wr.close();
     }
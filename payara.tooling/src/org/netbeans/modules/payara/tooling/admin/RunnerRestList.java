@@ -41,9 +41,11 @@
 
 package org.netbeans.modules.payara.tooling.admin;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import org.netbeans.modules.payara.tooling.admin.response.MessagePart;
+import org.netbeans.modules.payara.tooling.admin.response.JSONReader;
+import org.netbeans.modules.payara.tooling.admin.response.RestJSONResponseParser;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
 
 /**
@@ -53,6 +55,13 @@ import org.netbeans.modules.payara.tooling.data.PayaraServer;
  */
 public class RunnerRestList extends RunnerRest {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Message attribute of top level message children. */
+    private static final String MESSAGE_ATTR = "message";
+
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -61,6 +70,9 @@ public class RunnerRestList extends RunnerRest {
     @SuppressWarnings("FieldNameHidesFieldInSuperclass")
     ResultList<String> result;
 
+    /** Messages collected while server response is being read. */
+    private List<String> messages;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -89,17 +101,47 @@ public class RunnerRestList extends RunnerRest {
         return result = new ResultList<>();
     }
 
+    /**
+     * Get handler of top level message children which collects their
+     * messages while server response is being read.
+     * <p/>
+     * Only <code>message</code> attribute of each child is read.
+     * <p/>
+     * @return Handler of top level message children.
+     */
+    @Override
+    RestJSONResponseParser.ChildrenHandler childrenHandler() {
+        messages = new ArrayList<>();
+        return new RestJSONResponseParser.ChildrenHandler() {
+            @Override
+            public void child(final JSONReader reader) throws IOException {
+                String message = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if (MESSAGE_ATTR.equals(reader.nextName())
+                            && reader.peek() != JSONReader.Token.NULL) {
+                        message = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                messages.add(message);
+            }
+        };
+    }
+
+    /**
+     * Store messages collected from server response into result.
+     * <p/>
+     * @return Always returns <code>true</code>.
+     */
     @Override
     protected boolean processResponse() {
-        List<MessagePart> childMessages = report.getTopMessagePart().getChildren();
-        if ((childMessages != null) && !childMessages.isEmpty()) {
-            result.value = new ArrayList<>(childMessages.size());
-            for (MessagePart msg : childMessages) {
-                result.getValue().add(msg.getMessage());
-            }
+        if (messages != null && !messages.isEmpty()) {
+            result.value = messages;
         }
         return true;
     }
 
-
 }
@@ -0,0 +1,158 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URLEncoder;
+import java.util.Map;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.utils.Utils;
+
+/**
+ * Runner executes redeploy command via REST interface.
+ * <p/>
+ * Application already stored on the server is reloaded so no archive
+ * is sent.
+ */
+public class RunnerRestRedeploy extends RunnerRest {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of administration command executor using
+     * REST interface.
+     * <p/>
+     * @param server  Payara server entity object.
+     * @param command Payara server administration command entity.
+     */
+    public RunnerRestRedeploy(final PayaraServer server,
+            final Command command) {
+        super(server, command);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Implemented Abstract Methods                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Send redeploy command parameters as URL encoded form data.
+     * <p/>
+     * Properties and libraries are sent in the same format as HTTP interface
+     * query string uses.
+     * <p/>
+     * @param hconn Opened HTTP connection.
+     * @throws IOException when data could not be sent.
+     */
+    @Override
+    protected void handleSend(HttpURLConnection hconn) throws IOException {
+        CommandRedeploy cmd = (CommandRedeploy) command;
+        StringBuilder data = new StringBuilder();
+        appendParam(data, "name", Utils.sanitizeName(cmd.name));
+        if (cmd.target != null) {
+            appendParam(data, "target", cmd.target);
+        }
+        if (cmd.contextRoot != null && cmd.contextRoot.length() > 0) {
+            appendParam(data, "contextroot", cmd.contextRoot);
+        }
+        if (cmd.keepState) {
+            appendParam(data, "keepState", Boolean.toString(cmd.keepState));
+        }
+        if (cmd.properties != null && cmd.properties.size() > 0) {
+            StringBuilder value = new StringBuilder();
+            for (Map.Entry<String, String> entry
+                    : cmd.properties.entrySet()) {
+                if (value.length() > 0) {
+                    value.append(ITEM_SEPARATOR);
+                }
+                value.append(entry.getKey()).append(PARAM_ASSIGN_VALUE);
+                if (entry.getValue() != null) {
+                    value.append(entry.getValue());
+                }
+            }
+            appendParam(data, "properties", value.toString());
+        }
+        if (cmd.libraries != null && cmd.libraries.length > 0) {
+            StringBuilder value = new StringBuilder();
+            for (File library : cmd.libraries) {
+                if (value.length() > 0) {
+                    value.append(RunnerHttp.LIBRARY_SEPARATOR);
+                }
+                value.append(library.getPath());
+            }
+            appendParam(data, "libraries", value.toString());
+        }
+        try (OutputStreamWriter wr
+                = new OutputStreamWriter(requestOutputStream(hconn))) {
+            wr.write(data.toString());
+            wr.flush();
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Append URL encoded parameter to form data.
+     * <p/>
+     * @param data  Form data being built.
+     * @param name  Parameter name.
+     * @param value Parameter value.
+     * @throws UnsupportedEncodingException when UTF-8 is not supported.
+     */
+    private static void appendParam(final StringBuilder data,
+            final String name, final String value)
+            throws UnsupportedEncodingException {
+        if (data.length() > 0) {
+            data.append(PARAM_SEPARATOR);
+        }
+        data.append(name).append(PARAM_ASSIGN_VALUE);
+        data.append(URLEncoder.encode(value, "UTF-8"));
+    }
+
+}
@@ -71,7 +71,7 @@ public class RunnerRestSetProperty extends RunnerRest {
     
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          CommandSetProperty spCommand = (CommandSetProperty) command;
          StringBuilder data = new StringBuilder();
          data.append("values=");
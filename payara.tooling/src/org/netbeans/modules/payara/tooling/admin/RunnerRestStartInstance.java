@@ -67,7 +67,7 @@ public class RunnerRestStartInstance extends RunnerRest {
 
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          CommandTarget cmd = (CommandTarget) command;
          StringBuilder data = new StringBuilder();
          data.append("instance_name=").append(cmd.target);
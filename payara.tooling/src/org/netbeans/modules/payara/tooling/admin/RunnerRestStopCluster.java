@@ -68,7 +68,7 @@ public class RunnerRestStopCluster extends RunnerRest {
 
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          wr.write("clusterName=" + ((CommandTarget)command).target);
          wr.flush();
          wr.close();
@@ -70,7 +70,7 @@ public class RunnerRestUndeploy extends RunnerRest {
 
     @Override
     protected void handleSend(HttpURLConnection hconn) throws IOException {
-         OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+         OutputStreamWriter wr = new OutputStreamWriter(requestOutputStream(hconn));
          CommandUndeploy cmd = (CommandUndeploy) command;
          wr.write("name=" + cmd.name);
          if (cmd.target != null) {
@@ -43,10 +43,12 @@ package org.netbeans.modules.payara.tooling.admin;
 
 import org.netbeans.modules.payara.tooling.TaskStateListener;
 import java.net.Authenticator;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import org.netbeans.modules.payara.tooling.data.IdeContext;
 import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.utils.NetUtils;
 
 /**
  * Payara Administration Command API.
@@ -74,11 +76,42 @@ public class ServerAdmin {
         Runner.init(authenticator);
     }
 
+    /**
+     * Set retry policy of administration commands.
+     * <p/>
+     * Default policy is {@link ExponentialRetryPolicy} with default settings.
+     * <p/>
+     * @param policy Retry policy of administration commands.
+     */
+    public static void setRetryPolicy(final RetryPolicy policy) {
+        Runner.setRetryPolicy(policy);
+    }
+
+    /**
+     * Invalidate all cached read-only administration command results
+     * of Payara server.
+     * <p/>
+     * Cached HTTP listeners protocol, idle connections and TLS sessions
+     * are dropped too and server's circuit breaker is closed.
+     * Should be called when server state changes outside of administration
+     * commands, e.g. when server is started, restarted or removed.
+     * <p/>
+     * @param srv Target Payara server.
+     */
+    public static void invalidateCache(final PayaraServer srv) {
+        CommandResultCache.getInstance().invalidate(srv);
+        NetUtils.invalidateSecurePort(srv.getHost(), srv.getAdminPort());
+        NetUtils.invalidateSecurePort(srv.getHost(), srv.getPort());
+        AdminConnectionPool.remove(srv);
+        CircuitBreaker.reset(srv);
+        DeployDigests.getInstance().invalidate(srv);
+    }
+
     /**
      * Execute remote administration command on Payara server.
      * <p>
-     * Execution of administration command is serialized using internal
-     * executor.
+     * Execution of administration commands passed to the same server
+     * is serialized using internal executor.
      * <p>
      * @param srv Target Payara server.
      * @param cmd Server administration command to me executed.
@@ -88,16 +121,14 @@ public class ServerAdmin {
     public static <E extends Result> Future<E> exec(
             final PayaraServer srv, final Command cmd,
             final IdeContext ide) {
-        AdminFactory af = AdminFactory.getInstance(srv.getAdminInterface());
-        Runner runner = af.getRunner(srv, cmd);
-        return (Future<E>) runner.execute();
+        return ServerAdmin.<E>execAsync(srv, cmd);
     }
 
     /**
      * Execute remote administration command on Payara server.
      * <p>
-     * Execution of administration command is serialized using internal
-     * executor.
+     * Execution of administration commands passed to the same server
+     * is serialized using internal executor.
      * <p>
      * @param srv Target Payara server.
      * @param cmd Server administration command to me executed.
@@ -108,10 +139,7 @@ public class ServerAdmin {
     public static <E extends Result> Future<E> exec(
             final PayaraServer srv, final Command cmd, final IdeContext ide,
             final TaskStateListener... listeners) {
-        AdminFactory af = AdminFactory.getInstance(srv.getAdminInterface());
-        Runner runner = af.getRunner(srv, cmd);
-        runner.stateListeners = listeners;
-        return (Future<E>) runner.execute();
+        return ServerAdmin.<E>execAsync(srv, cmd, listeners);
     }
 
     /**
@@ -169,24 +197,22 @@ public class ServerAdmin {
     /**
      * Execute remote administration command on Payara server.
      * <p>
-     * Execution of administration command is serialized using internal
-     * executor.
+     * Execution of administration commands passed to the same server
+     * is serialized using internal executor.
      * <p>
      * @param srv Target Payara server.
      * @param cmd Server administration command to me executed.
      */
     public static <E extends Result> Future<E> exec(
             final PayaraServer srv, final Command cmd) {
-        AdminFactory af = AdminFactory.getInstance(srv.getAdminInterface());
-        Runner runner = af.getRunner(srv, cmd);
-        return (Future<E>) runner.execute();
+        return ServerAdmin.<E>execAsync(srv, cmd);
     }
 
     /**
      * Execute remote administration command on Payara server.
      * <p>
-     * Execution of administration command is serialized using internal
-     * executor.
+     * Execution of administration commands passed to the same server
+     * is serialized using internal executor.
      * <p>
      * @param srv Target Payara server.
      * @param cmd Server administration command to me executed.
@@ -195,10 +221,56 @@ public class ServerAdmin {
     public static <E extends Result> Future<E> exec(
             final PayaraServer srv, final Command cmd,
             final TaskStateListener... listeners) {
+        return ServerAdmin.<E>execAsync(srv, cmd, listeners);
+    }
+
+    /**
+     * Execute remote administration command on Payara server asynchronously.
+     * <p>
+     * Execution of administration commands passed to the same server
+     * is serialized using internal executor. Returned future is completed
+     * when command execution finishes so results of several commands may
+     * be composed without blocking a thread for each of them.
+     * <p>
+     * Dependent stages run on internal completion threads, not on threads
+     * executing administration commands, so a stage may wait for result
+     * of another command passed to the same server.
+     * <p>
+     * @param srv Target Payara server.
+     * @param cmd Server administration command to me executed.
+     * @return Future completed with administration command execution result.
+     */
+    public static <E extends Result> CompletableFuture<E> execAsync(
+            final PayaraServer srv, final Command cmd) {
+        AdminFactory af = AdminFactory.getInstance(srv.getAdminInterface());
+        Runner runner = af.getRunner(srv, cmd);
+        return (CompletableFuture<E>) runner.execute();
+    }
+
+    /**
+     * Execute remote administration command on Payara server asynchronously.
+     * <p>
+     * Execution of administration commands passed to the same server
+     * is serialized using internal executor. Returned future is completed
+     * when command execution finishes so results of several commands may
+     * be composed without blocking a thread for each of them.
+     * <p>
+     * Dependent stages run on internal completion threads, not on threads
+     * executing administration commands, so a stage may wait for result
+     * of another command passed to the same server.
+     * <p>
+     * @param srv Target Payara server.
+     * @param cmd Server administration command to me executed.
+     * @param listeners Listeners that are called when command execution status changes.
+     * @return Future completed with administration command execution result.
+     */
+    public static <E extends Result> CompletableFuture<E> execAsync(
+            final PayaraServer srv, final Command cmd,
+            final TaskStateListener... listeners) {
         AdminFactory af = AdminFactory.getInstance(srv.getAdminInterface());
         Runner runner = af.getRunner(srv, cmd);
         runner.stateListeners = listeners;
-        return (Future<E>) runner.execute();
+        return (CompletableFuture<E>) runner.execute();
     }
 
     /**
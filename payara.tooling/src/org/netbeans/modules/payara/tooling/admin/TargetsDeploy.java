@@ -0,0 +1,384 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.TaskEvent;
+import org.netbeans.modules.payara.tooling.TaskState;
+import org.netbeans.modules.payara.tooling.TaskStateListener;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+
+/**
+ * Deployment of application on several targets.
+ * <p/>
+ * Application archive is uploaded once by deploy command. Application
+ * references for remaining targets are created afterwards using bounded
+ * number of concurrent create-application-ref commands. They run on shared
+ * administration commands worker threads but bypass server's command lane
+ * so they don't wait for each other. When reference can't be created,
+ * target configuration is read and reference is not considered as failure
+ * when target already references application, e.g. on repeated deployment.
+ * <p/>
+ * State changes of deploy command are passed to provided listener except
+ * its completion. Single final state is reported after all application
+ * references were processed.
+ */
+class TargetsDeploy implements TaskStateListener {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(TargetsDeploy.class);
+
+    /** Dotted name prefixes of targets which may reference application:
+     *  server instance and cluster. */
+    private static final String[] TARGET_PREFIXES = {
+        "servers.server.", "clusters.cluster."
+    };
+
+    /** Dotted name infix of application reference. */
+    private static final String APPLICATION_REF = ".application-ref.";
+
+    /** Dotted name suffix of application reference enabled attribute. */
+    private static final String ENABLED = ".enabled";
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Check whether get command returned application reference attribute.
+     * <p/>
+     * @param ref get command result.
+     * @return Value of <code>true</code> when application reference exists
+     *         or <code>false</code> otherwise.
+     */
+    private static boolean exists(final Result<?> ref) {
+        return ref != null && ref.getState() == TaskState.COMPLETED
+                && ref.getValue() instanceof Map
+                && !((Map<?, ?>) ref.getValue()).isEmpty();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Target Payara server. */
+    private final PayaraServer server;
+
+    /** Deploy command for the first target. */
+    private final CommandDeploy command;
+
+    /** Remaining targets. */
+    private final String[] targets;
+
+    /** Maximum number of application references created at once. */
+    private final int parallelism;
+
+    /** Command execution events listener. */
+    private final TaskStateListener listener;
+
+    /** Future completed when all targets were processed. */
+    private final CompletableFuture<ResultString> future;
+
+    /** Target already references application where reference could not
+     *  be created. Written before reference future is completed. */
+    private final boolean[] existing;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of deployment on several targets.
+     * <p/>
+     * @param server      Target Payara server.
+     * @param command     Deploy command for the first target.
+     * @param targets     Remaining targets.
+     * @param parallelism Maximum number of application references created
+     *                    at once.
+     * @param listener    Command execution events listener.
+     */
+    TargetsDeploy(final PayaraServer server, final CommandDeploy command,
+            final String[] targets, final int parallelism,
+            final TaskStateListener listener) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "Parallelism must be positive: " + parallelism);
+        }
+        this.server = server;
+        this.command = command;
+        this.targets = targets != null ? targets : new String[0];
+        this.parallelism = parallelism;
+        this.listener = listener;
+        this.future = new CompletableFuture<>();
+        this.existing = new boolean[this.targets.length];
+        // Redeploy would leave existing application references in place
+        // so creating them again would fail.
+        command.redeployUnchanged = false;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Implemented Interface Methods                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Pass deploy command state change to listener. Completion is reported
+     * after all application references were processed.
+     * <p/>
+     * @param newState New command execution state.
+     * @param event    Event related to execution state change.
+     * @param args     Additional String arguments.
+     */
+    @Override
+    public void operationStateChanged(final TaskState newState,
+            final TaskEvent event, final String... args) {
+        if (newState != TaskState.COMPLETED) {
+            notify(newState, event, args);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Start deployment.
+     * <p/>
+     * @return Future completed with deploy task response.
+     */
+    CompletableFuture<ResultString> execute() {
+        ServerAdmin.<ResultString>execAsync(server, command, this)
+                .whenComplete(new BiConsumer<ResultString, Throwable>() {
+            @Override
+            public void accept(final ResultString result,
+                    final Throwable t) {
+                deployed(result, t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Process finished deploy command and create application references
+     * for remaining targets when it succeeded.
+     * <p/>
+     * @param result Deploy command result.
+     * @param t      Deploy command failure or <code>null</code>.
+     */
+    private void deployed(final ResultString result, final Throwable t) {
+        if (t != null) {
+            future.completeExceptionally(t);
+            return;
+        }
+        if (result.getState() != TaskState.COMPLETED || targets.length == 0) {
+            finish(result, new ArrayList<String>(0));
+            return;
+        }
+        final String name = command.applicationName();
+        final AdminFactory af
+                = AdminFactory.getInstance(server.getAdminInterface());
+        final List<Runner> runners = new ArrayList<>(targets.length);
+        final List<CompletableFuture<Result<?>>> refs
+                = new ArrayList<>(targets.length);
+        for (String target : targets) {
+            runners.add(af.getRunner(server,
+                    new CommandCreateApplicationRef(name, target)));
+            refs.add(new CompletableFuture<Result<?>>());
+        }
+        final AtomicInteger next = new AtomicInteger(0);
+        for (int i = 0; i < Math.min(parallelism, targets.length); i++) {
+            startNext(runners, refs, next);
+        }
+        CompletableFuture.allOf(refs.toArray(
+                new CompletableFuture<?>[refs.size()])).whenComplete(
+                new BiConsumer<Void, Throwable>() {
+            @Override
+            public void accept(final Void v, final Throwable t) {
+                referenced(result, refs);
+            }
+        });
+    }
+
+    /**
+     * Start next waiting create-application-ref command. Each finished
+     * command starts next one so no more than <code>parallelism</code>
+     * commands run at once.
+     * <p/>
+     * @param runners Runners of create-application-ref commands.
+     * @param refs    Futures of create-application-ref commands.
+     * @param next    Index of next command to be started.
+     */
+    private void startNext(final List<Runner> runners,
+            final List<CompletableFuture<Result<?>>> refs,
+            final AtomicInteger next) {
+        final int i = next.getAndIncrement();
+        if (i >= runners.size()) {
+            return;
+        }
+        final CompletableFuture<Result<?>> ref = refs.get(i);
+        runners.get(i).submitParallel().whenComplete(
+                new BiConsumer<Result<?>, Throwable>() {
+            @Override
+            public void accept(final Result<?> r, final Throwable t) {
+                if (t == null && r.getState() != TaskState.COMPLETED) {
+                    check(i, 0, r, runners, refs, next);
+                    return;
+                }
+                startNext(runners, refs, next);
+                if (t != null) {
+                    ref.completeExceptionally(t);
+                } else {
+                    ref.complete(r);
+                }
+            }
+        });
+    }
+
+    /**
+     * Check whether target already references application where
+     * create-application-ref command failed and start next waiting
+     * create-application-ref command.
+     * <p/>
+     * Target is checked as server instance first and as cluster then.
+     * <p/>
+     * @param i       Index of target.
+     * @param prefix  Index of target dotted name prefix.
+     * @param r       Failed create-application-ref command result.
+     * @param runners Runners of create-application-ref commands.
+     * @param refs    Futures of create-application-ref commands.
+     * @param next    Index of next command to be started.
+     */
+    private void check(final int i, final int prefix, final Result<?> r,
+            final List<Runner> runners,
+            final List<CompletableFuture<Result<?>>> refs,
+            final AtomicInteger next) {
+        final String property = TARGET_PREFIXES[prefix] + targets[i]
+                + APPLICATION_REF + command.applicationName() + ENABLED;
+        AdminFactory.getInstance(server.getAdminInterface()).getRunner(
+                server, new CommandGetProperty(property)).submitParallel()
+                .whenComplete(new BiConsumer<Result<?>, Throwable>() {
+            @Override
+            public void accept(final Result<?> ref, final Throwable t) {
+                if (t == null && exists(ref)) {
+                    existing[i] = true;
+                } else if (prefix + 1 < TARGET_PREFIXES.length) {
+                    check(i, prefix + 1, r, runners, refs, next);
+                    return;
+                }
+                startNext(runners, refs, next);
+                refs.get(i).complete(r);
+            }
+        });
+    }
+
+    /**
+     * Process finished create-application-ref commands.
+     * <p/>
+     * @param result Deploy command result.
+     * @param refs   Futures of create-application-ref commands.
+     */
+    private void referenced(final ResultString result,
+            final List<CompletableFuture<Result<?>>> refs) {
+        final String METHOD = "referenced";
+        final List<String> failed = new ArrayList<>();
+        for (int i = 0; i < refs.size(); i++) {
+            Result<?> ref = refs.get(i).isCompletedExceptionally()
+                    ? null : refs.get(i).getNow(null);
+            if (existing[i]) {
+                LOGGER.log(Level.FINE, METHOD, "exists", targets[i]);
+            } else if (ref == null || ref.getState() != TaskState.COMPLETED) {
+                failed.add(targets[i]);
+                LOGGER.log(Level.INFO, METHOD, "failed", new Object[] {
+                    targets[i], ref != null ? ref.getValue() : null});
+            }
+        }
+        finish(result, failed);
+    }
+
+    /**
+     * Report final deployment state and complete future.
+     * <p/>
+     * @param result Deploy command result.
+     * @param failed Targets where application reference could not be created.
+     */
+    private void finish(final ResultString result, final List<String> failed) {
+        final String METHOD = "finish";
+        if (result.getState() == TaskState.COMPLETED) {
+            if (failed.isEmpty()) {
+                notify(TaskState.COMPLETED, TaskEvent.CMD_COMPLETED,
+                        result.getValue());
+            } else {
+                result.state = TaskState.FAILED;
+                result.value = LOGGER.excMsg(METHOD, "failed",
+                        command.applicationName(), failed.toString());
+                notify(TaskState.FAILED, TaskEvent.CMD_FAILED, result.value);
+            }
+        }
+        future.complete(result);
+    }
+
+    /**
+     * Notify listener about state change.
+     * <p/>
+     * @param newState New command execution state.
+     * @param event    Event related to execution state change.
+     * @param args     Additional String arguments.
+     */
+    private void notify(final TaskState newState, final TaskEvent event,
+            final String... args) {
+        if (listener != null) {
+            listener.operationStateChanged(newState, event, args);
+        }
+    }
+
+}
@@ -63,6 +63,9 @@ public class CommandCloudDeploy extends CommandCloud {
     /** Command string for deploy command. */
     private static final String COMMAND = "deploy";
 
+    /** Default execution timeout of this command [ms]. */
+    private static final long TIMEOUT = 1800000;
+
 
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
@@ -86,4 +89,29 @@ public class CommandCloudDeploy extends CommandCloud {
         this.path = path;
     }
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get default execution timeout of this command.
+     * <p/>
+     * @return Default execution timeout of this command [ms].
+     */
+    @Override
+    protected long defaultTimeout() {
+        return TIMEOUT;
+    }
+
+    /**
+     * Get classes of read-only commands which cached results are invalidated
+     * when this command completes.
+     * <p/>
+     * @return Classes of commands which cached results are invalidated.
+     */
+    @Override
+    protected Class<?>[] invalidates() {
+        return APPLICATION_READS;
+    }
+
 }
@@ -104,12 +104,13 @@ public class RunnerRestCloudDeploy extends RunnerRestCloud {
             throw new PayaraIdeException("The path attribute of deploy command"
                     + " has to be non-empty!");
         }
-        OutputStreamWriter wr = new OutputStreamWriter(hconn.getOutputStream());
+        OutputStream output = requestOutputStream(hconn);
+        OutputStreamWriter wr = new OutputStreamWriter(output);
         writeParam(wr, "file", command.path.getAbsolutePath());
         if (command.account != null) {
             writeParam(wr, "account", command.account);
         }
-        writeBinaryFile(wr, hconn.getOutputStream(), command.path);
+        writeBinaryFile(wr, output, command.path);
         wr.append("--" + multipartBoundary + "--").append(NEWLINE);
         wr.close();
     }
@@ -0,0 +1,671 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.admin.response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Pull based streaming JSON reader.
+ * <p/>
+ * Reader returns JSON document token by token so callers can process
+ * large REST administration interface responses field by field without
+ * building object tree of the whole document. Unneeded values are skipped
+ * using {@link #skipValue()} which does not allocate skipped strings.
+ * <p/>
+ * Numbers and booleans may be read as strings too.
+ */
+public class JSONReader implements Closeable {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * JSON document tokens.
+     */
+    public enum Token {
+        /** Start of JSON object. */
+        BEGIN_OBJECT,
+        /** End of JSON object. */
+        END_OBJECT,
+        /** Start of JSON array. */
+        BEGIN_ARRAY,
+        /** End of JSON array. */
+        END_ARRAY,
+        /** JSON object member name. */
+        NAME,
+        /** JSON string value. */
+        STRING,
+        /** JSON number value. */
+        NUMBER,
+        /** JSON boolean value. */
+        BOOLEAN,
+        /** JSON null value. */
+        NULL,
+        /** End of JSON document. */
+        END_DOCUMENT;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Input buffer size. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Initial nesting stack size. */
+    private static final int STACK_SIZE = 32;
+
+    /** Scope: array without elements read yet. */
+    private static final int EMPTY_ARRAY = 1;
+
+    /** Scope: array with some elements read. */
+    private static final int NONEMPTY_ARRAY = 2;
+
+    /** Scope: object without members read yet. */
+    private static final int EMPTY_OBJECT = 3;
+
+    /** Scope: object member name was read, value follows. */
+    private static final int DANGLING_NAME = 4;
+
+    /** Scope: object with some members read. */
+    private static final int NONEMPTY_OBJECT = 5;
+
+    /** Scope: document without top level value read yet. */
+    private static final int EMPTY_DOCUMENT = 6;
+
+    /** Scope: document with top level value read. */
+    private static final int NONEMPTY_DOCUMENT = 7;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** JSON document source. */
+    private final Reader in;
+
+    /** Input buffer. */
+    private final char[] buffer;
+
+    /** Position of next character to be read from input buffer. */
+    private int pos;
+
+    /** Number of valid characters in input buffer. */
+    private int limit;
+
+    /** Number of characters consumed before current input buffer content. */
+    private long offset;
+
+    /** Nesting stack of scopes. */
+    private int[] stack;
+
+    /** Number of scopes on nesting stack. */
+    private int stackSize;
+
+    /** Token returned by last {@link #peek()} which was not consumed yet. */
+    private Token peeked;
+
+    /** Text of peeked number or boolean literal. */
+    private String peekedLiteral;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Constructs an instance of streaming JSON reader.
+     * <p/>
+     * Reader is buffered internally so source does not need to be buffered.
+     * <p/>
+     * @param in JSON document source.
+     */
+    public JSONReader(final Reader in) {
+        this.in = in;
+        this.buffer = new char[BUFFER_SIZE];
+        this.pos = 0;
+        this.limit = 0;
+        this.offset = 0;
+        this.stack = new int[STACK_SIZE];
+        this.stackSize = 0;
+        push(EMPTY_DOCUMENT);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get type of next token without consuming it.
+     * <p/>
+     * @return Type of next token.
+     * @throws IOException when source could not be read or JSON document
+     *         is malformed.
+     */
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        int c;
+        switch (stack[stackSize - 1]) {
+            case EMPTY_ARRAY:
+                stack[stackSize - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                } else if (c == -1) {
+                    throw syntaxError("unterminated array");
+                }
+                pos--;
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                } else if (c != ',') {
+                    throw syntaxError("expected ',' or ']'");
+                }
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                final boolean empty = stack[stackSize - 1] == EMPTY_OBJECT;
+                stack[stackSize - 1] = DANGLING_NAME;
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = Token.END_OBJECT;
+                }
+                if (!empty) {
+                    if (c != ',') {
+                        throw syntaxError("expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("expected member name");
+                }
+                return peeked = Token.NAME;
+            case DANGLING_NAME:
+                stack[stackSize - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("expected ':'");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                stack[stackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case NONEMPTY_DOCUMENT:
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("expected end of document");
+                }
+                return peeked = Token.END_DOCUMENT;
+            default:
+                throw new IllegalStateException("Reader is closed");
+        }
+        return peeked = peekValue();
+    }
+
+    /**
+     * Check whether current object or array contains another element.
+     * <p/>
+     * @return Value of <code>true</code> when another element follows.
+     * @throws IOException when source could not be read or JSON document
+     *         is malformed.
+     */
+    public boolean hasNext() throws IOException {
+        final Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY
+                && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consume start of JSON object.
+     * <p/>
+     * @throws IOException when next token is not start of JSON object.
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+        peeked = null;
+    }
+
+    /**
+     * Consume end of JSON object.
+     * <p/>
+     * @throws IOException when next token is not end of JSON object.
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        stackSize--;
+        peeked = null;
+    }
+
+    /**
+     * Consume start of JSON array.
+     * <p/>
+     * @throws IOException when next token is not start of JSON array.
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+        peeked = null;
+    }
+
+    /**
+     * Consume end of JSON array.
+     * <p/>
+     * @throws IOException when next token is not end of JSON array.
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        stackSize--;
+        peeked = null;
+    }
+
+    /**
+     * Consume JSON object member name.
+     * <p/>
+     * @return Member name.
+     * @throws IOException when next token is not member name.
+     */
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        peeked = null;
+        return readString();
+    }
+
+    /**
+     * Consume JSON string, number or boolean value and return it as string.
+     * <p/>
+     * @return Value as string.
+     * @throws IOException when next token is not string, number
+     *         or boolean value.
+     */
+    public String nextString() throws IOException {
+        final Token token = peek();
+        switch (token) {
+            case STRING:
+                peeked = null;
+                return readString();
+            case NUMBER:
+            case BOOLEAN:
+                peeked = null;
+                return peekedLiteral;
+            default:
+                throw syntaxError("expected string but was " + token);
+        }
+    }
+
+    /**
+     * Consume JSON boolean value.
+     * <p/>
+     * @return Boolean value.
+     * @throws IOException when next token is not boolean value.
+     */
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        peeked = null;
+        return "true".equals(peekedLiteral);
+    }
+
+    /**
+     * Consume JSON null value.
+     * <p/>
+     * @throws IOException when next token is not null value.
+     */
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        peeked = null;
+    }
+
+    /**
+     * Skip next JSON value including all nested values. Skipped strings
+     * are not allocated.
+     * <p/>
+     * @throws IOException when source could not be read or JSON document
+     *         is malformed.
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            final Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    depth++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    depth--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    depth--;
+                    break;
+                case NAME:
+                case STRING:
+                    peeked = null;
+                    skipString();
+                    break;
+                case END_DOCUMENT:
+                    throw syntaxError("unexpected end of document");
+                default:
+                    peeked = null;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Close JSON document source.
+     * <p/>
+     * @throws IOException when source could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        peeked = null;
+        stackSize = 1;
+        stack[0] = 0;
+        in.close();
+    }
+
+    /**
+     * Push new scope on nesting stack.
+     * <p/>
+     * @param scope Scope to be pushed.
+     */
+    private void push(final int scope) {
+        if (stackSize == stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[stackSize++] = scope;
+    }
+
+    /**
+     * Verify type of next token.
+     * <p/>
+     * @param expected Expected type of next token.
+     * @throws IOException when next token is of different type.
+     */
+    private void expect(final Token expected) throws IOException {
+        final Token token = peek();
+        if (token != expected) {
+            throw syntaxError("expected " + expected + " but was " + token);
+        }
+    }
+
+    /**
+     * Determine type of value starting at current position. Opening
+     * characters of objects, arrays and strings are consumed. Number
+     * and literal values are consumed completely.
+     * <p/>
+     * @return Type of value.
+     * @throws IOException when source could not be read or value
+     *         is malformed.
+     */
+    private Token peekValue() throws IOException {
+        final int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+                readLiteral("rue");
+                peekedLiteral = "true";
+                return Token.BOOLEAN;
+            case 'f':
+                readLiteral("alse");
+                peekedLiteral = "false";
+                return Token.BOOLEAN;
+            case 'n':
+                readLiteral("ull");
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    peekedLiteral = readNumber();
+                    return Token.NUMBER;
+                }
+                throw syntaxError("unexpected character");
+        }
+    }
+
+    /**
+     * Consume remaining characters of literal value.
+     * <p/>
+     * @param rest Expected remaining characters.
+     * @throws IOException when literal does not match.
+     */
+    private void readLiteral(final String rest) throws IOException {
+        for (int i = 0; i < rest.length(); i++) {
+            if (!fill() || buffer[pos++] != rest.charAt(i)) {
+                throw syntaxError("invalid literal");
+            }
+        }
+    }
+
+    /**
+     * Read number value.
+     * <p/>
+     * @return Number value text.
+     * @throws IOException when source could not be read.
+     */
+    private String readNumber() throws IOException {
+        final StringBuilder sb = new StringBuilder();
+        while (fill()) {
+            final char c = buffer[pos];
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.'
+                    || c == 'e' || c == 'E') {
+                sb.append(c);
+                pos++;
+            } else {
+                break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Read string value after opening quote including closing quote.
+     * <p/>
+     * @return String value.
+     * @throws IOException when source could not be read or string
+     *         is malformed.
+     */
+    private String readString() throws IOException {
+        StringBuilder sb = null;
+        while (fill()) {
+            int start = pos;
+            while (pos < limit) {
+                final char c = buffer[pos++];
+                if (c == '"') {
+                    if (sb == null) {
+                        return new String(buffer, start, pos - start - 1);
+                    }
+                    sb.append(buffer, start, pos - start - 1);
+                    return sb.toString();
+                } else if (c == '\\') {
+                    if (sb == null) {
+                        sb = new StringBuilder(Math.max(
+                                2 * (pos - start), 16));
+                    }
+                    sb.append(buffer, start, pos - start - 1);
+                    sb.append(readEscape());
+                    start = pos;
+                }
+            }
+            // String continues in next input buffer content.
+            if (sb == null) {
+                sb = new StringBuilder(Math.max(2 * (pos - start), 16));
+            }
+            sb.append(buffer, start, pos - start);
+        }
+        throw syntaxError("unterminated string");
+    }
+
+    /**
+     * Skip string value after opening quote including closing quote.
+     * <p/>
+     * @throws IOException when source could not be read or string
+     *         is unterminated.
+     */
+    private void skipString() throws IOException {
+        while (fill()) {
+            final char c = buffer[pos++];
+            if (c == '"') {
+                return;
+            } else if (c == '\\') {
+                if (!fill()) {
+                    break;
+                }
+                pos++;
+            }
+        }
+        throw syntaxError("unterminated string");
+    }
+
+    /**
+     * Read escape sequence after backslash character.
+     * <p/>
+     * @return Escaped character.
+     * @throws IOException when escape sequence is malformed.
+     */
+    private char readEscape() throws IOException {
+        if (!fill()) {
+            throw syntaxError("unterminated escape sequence");
+        }
+        final char c = buffer[pos++];
+        switch (c) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    if (!fill()) {
+                        throw syntaxError("unterminated escape sequence");
+                    }
+                    final int digit = Character.digit(buffer[pos++], 16);
+                    if (digit < 0) {
+                        throw syntaxError("invalid unicode escape sequence");
+                    }
+                    value = (value << 4) + digit;
+                }
+                return (char)value;
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            default:
+                throw syntaxError("invalid escape sequence");
+        }
+    }
+
+    /**
+     * Consume white space characters and return next character.
+     * <p/>
+     * @return Next non white space character or <code>-1</code>
+     *         at the end of source.
+     * @throws IOException when source could not be read.
+     */
+    private int nextNonWhitespace() throws IOException {
+        while (fill()) {
+            final char c = buffer[pos++];
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Make sure that input buffer contains at least one character
+     * to be read.
+     * <p/>
+     * @return Value of <code>true</code> when there is a character to be read
+     *         or <code>false</code> at the end of source.
+     * @throws IOException when source could not be read.
+     */
+    private boolean fill() throws IOException {
+        if (pos < limit) {
+            return true;
+        }
+        offset += limit;
+        pos = limit = 0;
+        int count;
+        do {
+            count = in.read(buffer, 0, buffer.length);
+        } while (count == 0);
+        if (count < 0) {
+            return false;
+        }
+        limit = count;
+        return true;
+    }
+
+    /**
+     * Build exception describing malformed JSON document.
+     * <p/>
+     * @param message Problem description.
+     * @return Exception describing malformed JSON document.
+     */
+    private IOException syntaxError(final String message) {
+        return new IOException("Malformed JSON: " + message
+                + " at character " + (offset + pos));
+    }
+
+}
@@ -41,9 +41,9 @@
 
 package org.netbeans.modules.payara.tooling.admin.response;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
@@ -52,19 +52,67 @@ import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Properties;
 import org.netbeans.modules.payara.tooling.PayaraIdeException;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.JSONValue;
-import org.json.simple.parser.ParseException;
+import org.netbeans.modules.payara.tooling.utils.JavaUtils;
 
 /**
  * Response parser implementation that can parse JSON responses
  * returned by REST administration interface.
  * <p/>
+ * Response is parsed directly from the stream using {@link JSONReader}
+ * so it is never copied into <code>String</code> or intermediate JSON
+ * object tree.
+ * <p/>
  * @author Tomas Kraus, Peter Benedikovic
  */
 public class RestJSONResponseParser extends RestResponseParser {
 
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Handler of top level message children.
+     * <p/>
+     * Allows runners to process children of top level message part while
+     * response is being read without building {@link MessagePart} objects
+     * for them.
+     */
+    public interface ChildrenHandler {
+
+        /**
+         * Process one child of top level message part. Exactly one JSON value
+         * must be consumed from the reader.
+         * <p/>
+         * @param reader JSON reader positioned at the child value.
+         * @throws IOException when child could not be read.
+         */
+        public void child(final JSONReader reader) throws IOException;
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Exit code attribute name. */
+    private static final String EXIT_CODE = "exit_code";
+
+    /** Command attribute name. */
+    private static final String COMMAND = "command";
+
+    /** Message attribute name. */
+    private static final String MESSAGE = "message";
+
+    /** Properties attribute name. */
+    private static final String PROPERTIES = "properties";
+
+    /** Children attribute name. */
+    private static final String CHILDREN = "children";
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
     /**
      * Parse JSON response.
      * <p/>
@@ -73,70 +121,105 @@ public class RestJSONResponseParser extends RestResponseParser {
      */
     @Override
     public RestActionReport parse(InputStream in) {
-        RestActionReport report = new RestActionReport();
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        try {
-            copy(in, out);
-            String respMsg = out.toString("UTF-8");
-            JSONObject json = (JSONObject)JSONValue.parseWithException(respMsg);
-            parseReport(report, json);
-        } catch (IOException ex) {
-            throw new PayaraIdeException("Unable to copy JSON response.", ex);
-        } catch (ParseException e) {
-            throw new PayaraIdeException("Unable to parse JSON response.", e);
-        }
-        return report;
+        return parse(in, null);
     }
 
     /**
-     * Parse JSON response.
+     * Parse JSON response passing children of top level message part
+     * to provided handler.
      * <p/>
-     * @param report Parsed content of JSON response.
-     * @param json   JSON response.
+     * Top level message part won't contain any children when handler
+     * is provided. Stream is not closed.
+     * <p/>
+     * @param in      {@link InputStream} to read.
+     * @param handler Handler of top level message children. Children are
+     *                stored in top level message part when <code>null</code>.
+     * @return Response returned by REST administration service.
      */
-    private void parseReport(RestActionReport report, JSONObject json) {
-        report.setExitCode(ActionReport.ExitCode.valueOf((String)json.get(
-                "exit_code")));
-        report.setActionDescription((String)json.get("command"));
-        report.topMessagePart = parseMessagePart(json);
+    public RestActionReport parse(final InputStream in,
+            final ChildrenHandler handler) {
+        final RestActionReport report = new RestActionReport();
+        final JSONReader reader = new JSONReader(
+                new InputStreamReader(in, JavaUtils.UTF_8));
+        try {
+            report.topMessagePart = parseMessagePart(reader, report, handler);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new PayaraIdeException("Unable to parse JSON response.", e);
+        }
+        return report;
     }
 
     /**
      * Parse one part of REST server message from JSON response.
-     * @param json JSON response.
+     * <p/>
+     * @param reader  JSON reader positioned at message part object.
+     * @param report  Report to store top level attributes into
+     *                or <code>null</code> for nested message parts.
+     * @param handler Handler of message children or <code>null</code>.
      * @return One part of REST server message from JSON response.
+     * @throws IOException when JSON response could not be read.
      */
-    private MessagePart parseMessagePart(JSONObject json) {
-        MessagePart mp = new MessagePart();
-        mp.setMessage((String)json.get("message"));
-        mp.setProperties(parseProperties(json));
-        JSONArray children = (JSONArray)json.get("children");
-        if (children != null) {
-            mp.children = new ArrayList<>(children.size());
-            for (int i = 0 ; i < children.size() ; i++) {
-                JSONObject child = (JSONObject)children.get(i);
-                mp.children.add(parseMessagePart(child));
+    private MessagePart parseMessagePart(final JSONReader reader,
+            final RestActionReport report, final ChildrenHandler handler)
+            throws IOException {
+        final MessagePart mp = new MessagePart();
+        mp.setProperties(new Properties());
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            if (reader.peek() == JSONReader.Token.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            if (report != null && EXIT_CODE.equals(name)) {
+                report.setExitCode(
+                        ActionReport.ExitCode.valueOf(reader.nextString()));
+            } else if (report != null && COMMAND.equals(name)) {
+                report.setActionDescription(reader.nextString());
+            } else if (MESSAGE.equals(name)) {
+                mp.setMessage(reader.nextString());
+            } else if (PROPERTIES.equals(name)) {
+                parseProperties(reader, mp.getProperties());
+            } else if (CHILDREN.equals(name)) {
+                reader.beginArray();
+                if (handler != null) {
+                    while (reader.hasNext()) {
+                        handler.child(reader);
+                    }
+                } else {
+                    mp.children = new ArrayList<>();
+                    while (reader.hasNext()) {
+                        mp.children.add(parseMessagePart(reader, null, null));
+                    }
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
             }
         }
+        reader.endObject();
         return mp;
     }
 
     /**
      * Retrieve properties from JSON response.
      * <p/>
-     * @param json JSON response.
-     * @return Properties from JSON response.
+     * @param reader     JSON reader positioned at properties object.
+     * @param properties Properties to store values into.
+     * @throws IOException when JSON response could not be read.
      */
-    private Properties parseProperties(JSONObject json) {
-        Properties result = new Properties();
-        JSONObject properties = (JSONObject)json.get("properties");
-        if (properties != null) {
-            for (Object key : properties.keySet()) {
-                String value = (String) properties.get(key);
-                result.setProperty((String)key, value);
+    private void parseProperties(final JSONReader reader,
+            final Properties properties) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String key = reader.nextName();
+            if (reader.peek() == JSONReader.Token.NULL) {
+                reader.nextNull();
+            } else {
+                properties.setProperty(key, reader.nextString());
             }
         }
-        return result;
+        reader.endObject();
     }
 
     /**
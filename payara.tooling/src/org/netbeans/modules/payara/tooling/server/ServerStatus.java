@@ -520,6 +520,10 @@ public class ServerStatus implements Closeable {
          *  means that start time was not set.*/
         long tmStart;
 
+        /** Administration command execution start time in shared executor.
+         *  Value of <code>-1</code> means that execution did not start yet. */
+        volatile long tmRunning;
+
         /** Task failure event filled by last state change. */
         TaskEvent failureEvent;
 
@@ -541,6 +545,7 @@ public class ServerStatus implements Closeable {
         Task(final PayaraServer server) {
             this.server = server;
             this.tmStart = -1;
+            this.tmRunning = -1;
         }
 
         ////////////////////////////////////////////////////////////////////////
@@ -552,15 +557,21 @@ public class ServerStatus implements Closeable {
         ////////////////////////////////////////////////////////////////////////
 
         /**
-         * Compute task result waiting timeout based on task start time, actual
-         * time and minimal timeout limit.
+         * Compute task result waiting timeout based on command execution
+         * start time, actual time and minimal timeout limit.
+         * <p/>
+         * Full timeout is returned while command is waiting in executor
+         * queue.
          * <p/>
          * @param startup Startup mode to select longer timeout.
          * @return Task result waiting timeout.
          */
         long timeout(final boolean startup) {
-            long timeout = (startup ? COMAND_STARTUP_TIMEOUT : COMAND_TIMEOUT)
-                    - System.currentTimeMillis() + tmStart;
+            final long started = tmRunning;
+            final long limit
+                    = startup ? COMAND_STARTUP_TIMEOUT : COMAND_TIMEOUT;
+            long timeout = started < 0
+                    ? limit : limit - System.currentTimeMillis() + started;
             if (timeout > COMAND_TIMEOUT_MIN) {
                 return timeout;
             } else {
@@ -568,6 +579,32 @@ public class ServerStatus implements Closeable {
             }
         }
 
+        /**
+         * Wait for administration command execution result.
+         * <p/>
+         * Time spent in executor queue is not counted against command
+         * timeout. Waiting continues while command did not start yet.
+         * Command which started is bounded by its own execution timeout.
+         * <p/>
+         * @param future  Administration command execution result.
+         * @param startup Startup mode to select longer timeout.
+         * @return Administration command execution result.
+         */
+        <E> E waitFor(final Future<E> future, final boolean startup)
+                throws InterruptedException, ExecutionException,
+                TimeoutException {
+            while (true) {
+                final boolean started = tmRunning >= 0;
+                try {
+                    return future.get(timeout(startup), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException te) {
+                    if (started) {
+                        throw te;
+                    }
+                }
+            }
+        }
+
         /**
          * Store event that caused task failure.
          * <p/>
@@ -586,6 +623,11 @@ public class ServerStatus implements Closeable {
                 serverName = exceptionMeasage = null;
             }
             switch(newState) {
+                case RUNNING:
+                    if (tmRunning < 0) {
+                        tmRunning = System.currentTimeMillis();
+                    }
+                    break;
                 case FAILED:
                     failureEvent = event;
             }
@@ -848,8 +890,7 @@ public class ServerStatus implements Closeable {
         void join() {
             final String METHOD = "join";
             try {
-                taskResult = future.get(
-                        timeout(startup), TimeUnit.MILLISECONDS);
+                taskResult = waitFor(future, startup);
                 result = new ResultLocations(taskResult, Status.SUCCESS,
                         failureEvent, serverName, exceptionMeasage);
                 LOGGER.log(Level.FINE, METHOD, "completed",
@@ -882,7 +923,7 @@ public class ServerStatus implements Closeable {
          * Attempt to cancel execution of this task.
          */
         void cancel() {
-            if (!future.isDone()) {
+            if (future != null && !future.isDone()) {
                 future.cancel(true);
             }
         }
@@ -990,8 +1031,7 @@ public class ServerStatus implements Closeable {
         void join() {
             final String METHOD = "join";
             try {
-                taskResult = future.get(
-                        timeout(startup), TimeUnit.MILLISECONDS);
+                taskResult = waitFor(future, startup);
                 result = new ResultVersion(taskResult, Status.SUCCESS,
                         failureEvent, serverName, exceptionMeasage);
                 LOGGER.log(Level.FINE, "completed",
@@ -1024,7 +1064,7 @@ public class ServerStatus implements Closeable {
          * Attempt to cancel execution of this task.
          */
         void cancel() {
-            if (!future.isDone()) {
+            if (future != null && !future.isDone()) {
                 future.cancel(true);
             }
         }
@@ -1037,9 +1077,6 @@ public class ServerStatus implements Closeable {
     /** Logger instance for this class. */
     private static final Logger LOGGER = new Logger(ServerStatus.class);
 
-    /** Executor thread pool size (amount of threads to run in parallel). */
-    private static final int EXECUTOR_POOL_SIZE = 2;
-
     /** Administration port connect timeout [ms]. */
     private static final int CONNECT_TIMEOUT = 15000;
 
@@ -1056,7 +1093,8 @@ public class ServerStatus implements Closeable {
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
 
-    /** Executor used to run asynchronous server status checks in parallel. */
+    /** Executor used to run asynchronous server status checks in parallel.
+     *  View of shared {@link StatusCheckExecutor}. */
     private final ExecutorService executor;
 
     /** Server status check task to verify if server administration
@@ -1089,7 +1127,7 @@ public class ServerStatus implements Closeable {
      *                commands execution timeouts when <code>true</code>.
      */
     public ServerStatus(final PayaraServer server, final boolean startup) {
-        this.executor = ServerAdmin.executor(EXECUTOR_POOL_SIZE);
+        this.executor = StatusCheckExecutor.getInstance().executor(server);
         this.adminPortTask = new AdminPortTask(server, CONNECT_TIMEOUT);
         this.versionTask = new VersionTask(server, startup);
         this.locationsTask = new LocationsTask(server, startup);
@@ -1152,12 +1190,14 @@ public class ServerStatus implements Closeable {
     /**
      * Clean up all resources.
      * <p/>
-     * Removes internal thread pool. 
-     * 
+     * Cancels status check tasks which are still running in shared
+     * executor.
      */
     @Override
     public void close() {
         executor.shutdownNow();
+        versionTask.cancel();
+        locationsTask.cancel();
     }
 
 }
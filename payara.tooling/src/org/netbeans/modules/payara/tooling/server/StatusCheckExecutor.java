@@ -0,0 +1,523 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.server;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.PayaraToolsConfig;
+import org.netbeans.modules.payara.tooling.data.PayaraServer;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+import org.netbeans.modules.payara.tooling.utils.ServerUtils;
+
+/**
+ * Shared executor of Payara server status checks.
+ * <p/>
+ * Every Payara server (host and administration port) has its own lane.
+ * Lane runs at most {@link #LANE_PARALLELISM} checks of its server
+ * at the same time and gives up worker thread after each check so lanes
+ * of all servers get fair share of worker threads. Number of worker
+ * threads caps number of status checks being executed at the same time.
+ * <p/>
+ * Executor is implemented as singleton.
+ * <p/>
+ * @see PayaraToolsConfig#setMaxConcurrentStatusChecks(int)
+ */
+public class StatusCheckExecutor {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Status checks execution metrics hook.
+     * <p/>
+     * Hook methods are called in worker threads. They must be fast
+     * and must not block.
+     */
+    public interface Metrics {
+
+        /**
+         * Status check execution started.
+         * <p/>
+         * @param key      Server lane key (<code>host:port</code>).
+         * @param waitTime Time spent waiting in queue [ns].
+         */
+        public void started(final String key, final long waitTime);
+
+        /**
+         * Status check execution finished.
+         * <p/>
+         * @param key     Server lane key (<code>host:port</code>).
+         * @param runTime Status check execution time [ns].
+         */
+        public void finished(final String key, final long runTime);
+
+    }
+
+    /**
+     * Status checks executor {@link ThreadFactory}.
+     * <p/>
+     * Constructs new daemon threads for status checks lanes.
+     */
+    private static final class ThreadFactory
+            implements java.util.concurrent.ThreadFactory {
+
+        /**
+         * Constructs a new {@link Thread}.
+         * <p/>
+         * @param r A runnable to be executed by new {@link Thread} instance.
+         * @return Constructed thread.
+         */
+        @Override
+        public Thread newThread(final Runnable r) {
+            Thread t = new Thread(r, THREAD_NAME);
+            t.setDaemon(true);
+            return t;
+        }
+    }
+
+    /**
+     * Status check waiting in lane.
+     */
+    private static final class Check {
+
+        /** Status check to be executed. */
+        private final Runnable task;
+
+        /** Time of submission [ns]. */
+        private final long submitted;
+
+        /**
+         * Constructs an instance of waiting status check.
+         * <p/>
+         * @param task Status check to be executed.
+         */
+        private Check(final Runnable task) {
+            this.task = task;
+            this.submitted = System.nanoTime();
+        }
+
+    }
+
+    /**
+     * Queue of status checks of single Payara server.
+     * <p/>
+     * Lane is scheduled on worker threads at most
+     * {@link #LANE_PARALLELISM} times at a time. Each run executes single
+     * check and schedules lane again when more checks are waiting.
+     */
+    private final class Lane implements Runnable {
+
+        /** Lane key (<code>host:port</code>). */
+        private final String key;
+
+        /** Checks waiting for execution. Guarded by <code>lanes</code>. */
+        private final Queue<Check> checks = new ArrayDeque<>();
+
+        /** Number of lane runs scheduled on worker threads. Guarded
+         *  by <code>lanes</code>. */
+        private int scheduled;
+
+        /**
+         * Constructs an instance of status checks lane.
+         * <p/>
+         * @param key Lane key (<code>host:port</code>).
+         */
+        private Lane(final String key) {
+            this.key = key;
+            this.scheduled = 0;
+        }
+
+        /**
+         * Execute next waiting check.
+         */
+        @Override
+        public void run() {
+            Check check;
+            synchronized (lanes) {
+                check = checks.poll();
+            }
+            try {
+                if (check != null) {
+                    final long start = System.nanoTime();
+                    started(key, start - check.submitted);
+                    try {
+                        check.task.run();
+                    } finally {
+                        finished(key, System.nanoTime() - start);
+                    }
+                }
+            } finally {
+                synchronized (lanes) {
+                    if (checks.isEmpty()) {
+                        if (--scheduled == 0) {
+                            lanes.remove(key);
+                        }
+                    } else {
+                        workers.execute(this);
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Status checks executor view of single Payara server.
+     * <p/>
+     * Tasks are passed to server's lane. Shutting view down only rejects
+     * new tasks. Already submitted tasks must be cancelled using their
+     * futures.
+     */
+    private final class ServerExecutor extends AbstractExecutorService {
+
+        /** Lane key (<code>host:port</code>). */
+        private final String key;
+
+        /** View was shut down. */
+        private volatile boolean shutdown;
+
+        /**
+         * Constructs an instance of server status checks executor view.
+         * <p/>
+         * @param key Lane key (<code>host:port</code>).
+         */
+        private ServerExecutor(final String key) {
+            this.key = key;
+            this.shutdown = false;
+        }
+
+        /**
+         * Execute task in server's lane.
+         * <p/>
+         * @param task Task to be executed.
+         */
+        @Override
+        public void execute(final Runnable task) {
+            final String METHOD = "execute";
+            if (shutdown) {
+                throw new RejectedExecutionException(
+                        LOGGER.excMsg(METHOD, "shutdown", key));
+            }
+            StatusCheckExecutor.this.execute(key, task);
+        }
+
+        /**
+         * Reject new tasks.
+         */
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        /**
+         * Reject new tasks.
+         * <p/>
+         * @return Empty list. Submitted tasks are not tracked by view.
+         */
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        /**
+         * Check whether view was shut down.
+         * <p/>
+         * @return Value of <code>true</code> when view was shut down.
+         */
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        /**
+         * Check whether view was shut down.
+         * <p/>
+         * @return Value of <code>true</code> when view was shut down.
+         */
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        /**
+         * Shared worker threads are never terminated by view.
+         * <p/>
+         * @param timeout Ignored.
+         * @param unit    Ignored.
+         * @return Value of <code>true</code> when view was shut down.
+         */
+        @Override
+        public boolean awaitTermination(final long timeout,
+                final TimeUnit unit) {
+            return shutdown;
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER
+            = new Logger(StatusCheckExecutor.class);
+
+    /** Maximum number of checks of single server being executed
+     *  at the same time. */
+    public static final int LANE_PARALLELISM = 2;
+
+    /** Time [s] after which idle worker thread is terminated. */
+    private static final long KEEP_ALIVE_TIME = 60;
+
+    /** Worker threads name. */
+    private static final String THREAD_NAME = "Payara Status Checks";
+
+    /** Singleton object instance. */
+    private static volatile StatusCheckExecutor instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Return existing singleton instance of this class or create a new one
+     * when no instance exists.
+     * <p/>
+     * @return <code>StatusCheckExecutor</code> singleton instance.
+     */
+    public static StatusCheckExecutor getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+        synchronized (StatusCheckExecutor.class) {
+            if (instance == null) {
+                instance = new StatusCheckExecutor();
+            }
+        }
+        return instance;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Active lanes of individual Payara servers. */
+    private final Map<String, Lane> lanes;
+
+    /** Worker threads shared by all lanes. */
+    private final ThreadPoolExecutor workers;
+
+    /** Status checks execution metrics hook. */
+    private volatile Metrics metrics;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of Payara server status checks executor.
+     */
+    private StatusCheckExecutor() {
+        final int size = PayaraToolsConfig.getMaxConcurrentStatusChecks();
+        lanes = new HashMap<>();
+        workers = new ThreadPoolExecutor(size, size,
+                KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory());
+        workers.allowCoreThreadTimeOut(true);
+        metrics = null;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters and setters                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get status checks execution metrics hook.
+     * <p/>
+     * @return Metrics hook or <code>null</code> when no hook is set.
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Set status checks execution metrics hook.
+     * <p/>
+     * @param metrics Metrics hook or <code>null</code> to remove hook.
+     */
+    public void setMetrics(final Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Get number of status checks being executed.
+     * <p/>
+     * @return Number of status checks being executed.
+     */
+    public int getActiveCount() {
+        return workers.getActiveCount();
+    }
+
+    /**
+     * Get number of status checks waiting for execution.
+     * <p/>
+     * @return Number of status checks waiting for execution.
+     */
+    public int getQueuedCount() {
+        int count = 0;
+        synchronized (lanes) {
+            for (Lane lane : lanes.values()) {
+                count += lane.checks.size();
+            }
+        }
+        return count;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get executor running tasks in given Payara server's lane.
+     * <p/>
+     * Returned executor is lightweight view of shared executor. It does not
+     * own any threads and does not need to be shut down.
+     * <p/>
+     * @param server Target Payara server.
+     * @return Executor running tasks in server's lane.
+     */
+    public AbstractExecutorService executor(final PayaraServer server) {
+        return new ServerExecutor(ServerUtils.adminKey(server));
+    }
+
+    /**
+     * Execute task in lane with given key.
+     * <p/>
+     * @param key  Lane key (<code>host:port</code>).
+     * @param task Task to be executed.
+     */
+    private void execute(final String key, final Runnable task) {
+        updatePoolSize();
+        synchronized (lanes) {
+            Lane lane = lanes.get(key);
+            if (lane == null) {
+                lane = new Lane(key);
+                lanes.put(key, lane);
+            }
+            lane.checks.add(new Check(task));
+            if (lane.scheduled < LANE_PARALLELISM) {
+                lane.scheduled++;
+                workers.execute(lane);
+            }
+        }
+    }
+
+    /**
+     * Pass status check start to metrics hook.
+     * <p/>
+     * @param key      Lane key (<code>host:port</code>).
+     * @param waitTime Time spent waiting in queue [ns].
+     */
+    private void started(final String key, final long waitTime) {
+        final String METHOD = "started";
+        final Metrics hook = metrics;
+        if (hook != null) {
+            try {
+                hook.started(key, waitTime);
+            } catch (RuntimeException re) {
+                LOGGER.log(Level.WARNING, METHOD, "failed", re);
+            }
+        }
+    }
+
+    /**
+     * Pass status check finish to metrics hook.
+     * <p/>
+     * @param key     Lane key (<code>host:port</code>).
+     * @param runTime Status check execution time [ns].
+     */
+    private void finished(final String key, final long runTime) {
+        final String METHOD = "finished";
+        final Metrics hook = metrics;
+        if (hook != null) {
+            try {
+                hook.finished(key, runTime);
+            } catch (RuntimeException re) {
+                LOGGER.log(Level.WARNING, METHOD, "failed", re);
+            }
+        }
+    }
+
+    /**
+     * Update worker threads pool size when configured maximum number
+     * of concurrent status checks was changed.
+     */
+    private void updatePoolSize() {
+        final int size = PayaraToolsConfig.getMaxConcurrentStatusChecks();
+        if (size == workers.getMaximumPoolSize()) {
+            return;
+        }
+        synchronized (workers) {
+            if (size > workers.getMaximumPoolSize()) {
+                workers.setMaximumPoolSize(size);
+                workers.setCorePoolSize(size);
+            } else if (size < workers.getMaximumPoolSize()) {
+                workers.setCorePoolSize(size);
+                workers.setMaximumPoolSize(size);
+            }
+        }
+    }
+
+}
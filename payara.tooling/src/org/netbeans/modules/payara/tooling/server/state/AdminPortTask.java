@@ -42,19 +42,25 @@
 package org.netbeans.modules.payara.tooling.server.state;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
-import java.net.Socket;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import org.netbeans.modules.payara.tooling.TaskState;
 import org.netbeans.modules.payara.tooling.data.PayaraStatusCheck;
 import org.netbeans.modules.payara.tooling.data.PayaraStatusCheckResult;
 import org.netbeans.modules.payara.tooling.TaskEvent;
 import org.netbeans.modules.payara.tooling.logging.Logger;
+import org.netbeans.modules.payara.tooling.utils.PortProber;
 
 /**
  * Individual server status check task to verify if server administration
  * port is alive.
  * <p/>
+ * Connection is handled by shared {@link PortProber} so executor thread
+ * is not blocked while waiting for the server. Check result is processed
+ * in status scheduler executor.
+ * <p/>
  * @author Tomas Kraus
  */
 class AdminPortTask extends AbstractTask {
@@ -107,6 +113,9 @@ class AdminPortTask extends AbstractTask {
       *  means that start time was not set.*/
     private long tmStart;
 
+    /** Port check started and its result was not processed yet. */
+    private final AtomicBoolean probing;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -124,6 +133,7 @@ class AdminPortTask extends AbstractTask {
         this.timeout = timeout;
         this.result = null;
         this.tmStart = -1;
+        this.probing = new AtomicBoolean(false);
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -161,23 +171,6 @@ class AdminPortTask extends AbstractTask {
         };
     }
 
-    /**
-     * Close socket and handle <code>IOException</code> that could
-     * be thrown.
-     * <p/>
-     * @param socket Socket to be closed.
-     */
-    private void closeSocket(final Socket socket) {
-        final String METHOD = "closeSocket";
-        try {
-            socket.close();
-        } catch (IOException ioe) {
-            handleIOException(ioe, job.getStatus().getServer().getHost(),
-                    job.getStatus().getServer().getAdminPort(),
-                    METHOD, "failed");
-        }
-    }
-
     /**
      * Handle IO Exception caught in server administration port verification
      * task.
@@ -228,30 +221,60 @@ class AdminPortTask extends AbstractTask {
         }
         LOGGER.log(Level.FINER, METHOD, "started", new String[] {
             job.getStatus().getServer().getName(), jobState.toString()});
-        String host = job.getStatus().getServer().getHost();
-        int port = job.getStatus().getServer().getAdminPort();
+        final String host = job.getStatus().getServer().getHost();
+        final int port = job.getStatus().getServer().getAdminPort();
         if (port < 0 || host == null) {
             result = new StatusResult(PayaraStatusCheckResult.FAILED);
             handleStateChange(TaskState.FAILED,
                     TaskEvent.CMD_FAILED, stateChangeArgs(null));
+            return;
+        }
+        if (!probing.compareAndSet(false, true)) {
+            LOGGER.log(Level.FINER, METHOD, "running");
+            return;
         }
         this.tmStart = System.currentTimeMillis();
-        InetSocketAddress sa = new InetSocketAddress(host, port);
-        Socket socket = new Socket();
-        try {
-            socket.connect(sa, timeout);
-            socket.setSoTimeout(timeout);
-        } catch (java.net.ConnectException ce) {
-            handleIOException(ce, host, port, METHOD, "connect");
+        PortProber.getInstance().probe(host, port, timeout,
+                new PortProber.Listener() {
+            @Override
+            public void probed(final boolean listening,
+                    final IOException failure) {
+                StatusScheduler.getInstance().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            handleProbe(host, port, failure);
+                        } finally {
+                            probing.set(false);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Process port check result reported by {@link PortProber}.
+     * <p/>
+     * Set task result and call registered listeners.
+     * <p/>
+     * @param host    Server administration host.
+     * @param port    Server administration port.
+     * @param failure Connection failure or <code>null</code> when port
+     *                accepted connection.
+     */
+    private void handleProbe(final String host, final int port,
+            final IOException failure) {
+        final String METHOD = "run";
+        if (failure instanceof ConnectException) {
+            handleIOException(failure, host, port, METHOD, "connect");
             return;
-        } catch (java.net.SocketTimeoutException ste) {
-            handleIOException(ste, host, port, METHOD, "timeout");
+        } else if (failure instanceof SocketTimeoutException) {
+            handleIOException(failure, host, port, METHOD, "timeout");
             return;
-        } catch (IOException ioe) {
-            handleIOException(ioe, host, port, METHOD, "ioException");
+        } else if (failure != null) {
+            handleIOException(failure, host, port, METHOD, "ioException");
             return;
-        } finally {
-            closeSocket(socket);
         }
         if (tmStart >= 0 && LOGGER.isLoggable(Level.FINEST)) {
             long tm = System.currentTimeMillis() - tmStart;
@@ -68,8 +68,9 @@ public class PayaraStatusEntity implements PayaraServerStatus {
     /** Payara server entity. */
     private PayaraServer server;
 
-    /** Current Payara server status. */
-    private PayaraStatus status;
+    /** Current Payara server status. Published by status job on every
+     *  state transition. */
+    private volatile PayaraStatus status;
 
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
@@ -42,6 +42,7 @@
 package org.netbeans.modules.payara.tooling.server.state;
 
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import org.netbeans.modules.payara.tooling.PayaraStatus;
 import org.netbeans.modules.payara.tooling.admin.Command;
@@ -395,6 +396,64 @@ public class StatusJob {
 
      }
 
+    /**
+     * Immutable copy of individual status check task result passed
+     * to server status listeners.
+     */
+    private static class TaskSnapshot implements PayaraStatusTask {
+
+        /** Server status check type. */
+        private final PayaraStatusCheck type;
+
+        /** Command task execution status. */
+        private final PayaraStatusCheckResult status;
+
+        /** Command task execution event. */
+        private final TaskEvent event;
+
+        /**
+         * Creates an instance of status check task result copy.
+         * <p/>
+         * @param task Individual status check task data.
+         */
+        private TaskSnapshot(final PayaraStatusTask task) {
+            this.type = task.getType();
+            this.status = task.getStatus();
+            this.event = task.getEvent();
+        }
+
+        /**
+         * Get server status check type.
+         * <p/>
+         * @return Server status check type.
+         */
+        @Override
+        public PayaraStatusCheck getType() {
+            return type;
+        }
+
+        /**
+         * Get command task execution status.
+         * <p/>
+         * @return Command task execution status.
+         */
+        @Override
+        public PayaraStatusCheckResult getStatus() {
+            return status;
+        }
+
+        /**
+         * Get command task execution event.
+         * <p/>
+         * @return Command task execution event.
+         */
+        @Override
+        public TaskEvent getEvent() {
+            return event;
+        }
+
+    }
+
      /**
       * Individual status check task data.
       */
@@ -713,6 +772,18 @@ public class StatusJob {
                 job.version.evalResult(), job.locations.evalResult());
     }
 
+    /**
+     * Copy status check task result to be passed to listeners executed
+     * later in notifier thread.
+     * <p/>
+     * @param task Payara server status check task details.
+     * @return Immutable copy of task result or <code>null</code> when
+     *         no task was provided.
+     */
+    private static PayaraStatusTask snapshot(final PayaraStatusTask task) {
+        return task != null ? new TaskSnapshot(task) : null;
+    }
+
     /**
      * Handles state transition and server status check tasks reschedule
      * for administrator port check result evaluation.
@@ -723,33 +794,36 @@ public class StatusJob {
     private static void portCheckTransition(
             final StatusJob job, final PayaraStatusTask task) {
         final String METHOD = "portCheckTransition";
-        PayaraStatus oldState;
-        PayaraStatus newState;
+        final PayaraStatusCheckResult status = job.portCheck.result.status;
+        StatusSnapshot oldState;
+        StatusSnapshot newState;
         synchronized (job) {
-            StatusJobState oldInternalState = job.state;
-            oldState = job.status.getStatus();
-            job.state = portCheckTransition[job.state.ordinal()]
-                    [job.portCheck.result.status.ordinal()];
+            oldState = job.snapshot.get();
+            newState = job.publish(portCheckTransition
+                    [oldState.getState().ordinal()][status.ordinal()]);
             LOGGER.log(Level.FINE, METHOD, "transition",
-                    new String[] {job.portCheck.result.status.toString(),
-                oldInternalState.toString(), job.state.toString()});
-            if (oldInternalState != job.state) {
-                StatusScheduler scheduler = StatusScheduler.getInstance();
+                    new String[] {status.toString(),
+                oldState.getState().toString(),
+                newState.getState().toString()});
+            StatusScheduler scheduler = StatusScheduler.getInstance();
+            if (oldState.getState() != newState.getState()) {
+                job.stableChecks = 0;
                 scheduler.remove(job);
                 scheduler.reschedule(job);
+            } else {
+                job.stableChecks++;
+                scheduler.adapt(job);
             }
-            newState = job.state.toPayaraStatus();
-            if (oldState != newState) {
-                job.status.setStatus(newState);                
+            // Notifications are only queued so they may be dispatched while
+            // holding job lock to keep them in order of state publication.
+            if (status == PayaraStatusCheckResult.FAILED) {
+                job.notifyErrorListeners(job.portCheck);
             }
+            if (oldState.getStatus() != newState.getStatus()) {
+                job.notifyNewStatusListeners(newState.getStatus(), task);
+            }
+            job.notifyCurrStatusListeners(newState.getStatus(), task);
         }
-        if (job.portCheck.result.status == PayaraStatusCheckResult.FAILED) {
-            job.notifyErrorListeners(job.portCheck);
-        }
-        if (oldState != newState) {
-            job.notifyNewStatusListeners(job.status.getStatus(), task);
-        }
-        job.notifyCurrStatusListeners(job.status.getStatus(), task);
     }
 
     /**
@@ -763,29 +837,31 @@ public class StatusJob {
             final StatusJob job, final PayaraStatusTask task) {
         final String METHOD = "commandLocationsTransition";
         PayaraStatusCheckResult status = checkResult(job);
-        PayaraStatus oldState;
-        PayaraStatus newState;
+        StatusSnapshot oldState;
+        StatusSnapshot newState;
         synchronized (job) {
-            StatusJobState oldInternalState = job.state;
-            oldState = job.status.getStatus();
-            job.state = commandTransition[job.state.ordinal()]
-                    [status.ordinal()];
-            LOGGER.log(Level.FINE, METHOD, "transition", new String[] {status.
-                toString(), oldInternalState.toString(), job.state.toString()});
-            if (oldInternalState != job.state) {
-                StatusScheduler scheduler = StatusScheduler.getInstance();
+            oldState = job.snapshot.get();
+            newState = job.publish(commandTransition
+                    [oldState.getState().ordinal()][status.ordinal()]);
+            LOGGER.log(Level.FINE, METHOD, "transition", new String[] {
+                status.toString(), oldState.getState().toString(),
+                newState.getState().toString()});
+            StatusScheduler scheduler = StatusScheduler.getInstance();
+            if (oldState.getState() != newState.getState()) {
+                job.stableChecks = 0;
                 scheduler.remove(job);
                 scheduler.reschedule(job);
+            } else {
+                job.stableChecks++;
+                scheduler.adapt(job);
             }
-            newState = job.state.toPayaraStatus();
-            if (oldState != newState) {
-                job.status.setStatus(newState);                
+            // Notifications are only queued so they may be dispatched while
+            // holding job lock to keep them in order of state publication.
+            if (oldState.getStatus() != newState.getStatus()) {
+                job.notifyNewStatusListeners(newState.getStatus(), task);
             }
+            job.notifyCurrStatusListeners(newState.getStatus(), task);
         }
-        if (oldState != newState) {
-            job.notifyNewStatusListeners(job.status.getStatus(), task);
-        }
-        job.notifyCurrStatusListeners(job.status.getStatus(), task);
     }
 
     ////////////////////////////////////////////////////////////////////////////
@@ -795,8 +871,9 @@ public class StatusJob {
     /** Payara server status entity. */
     private final PayaraStatusEntity status;
 
-    /** Server status job internal state. */
-    private StatusJobState state;
+    /** Server status job internal state snapshot. Replaced while holding
+     *  job lock, read without locking. */
+    private final AtomicReference<StatusSnapshot> snapshot;
 
     /** Administrator port check asynchronous task. */
     private final Task portCheck;
@@ -807,6 +884,16 @@ public class StatusJob {
     /** Command <code>version</code> asynchronous task. */
     private final RunnerTask version;
 
+    /** Number of consecutive checks which did not change job internal
+     *  state. */
+    private int stableChecks;
+
+    /** Time of last IDE action on server [ms since epoch]. */
+    private long touched;
+
+    /** Currently scheduled tasks execution delay [ms]. */
+    private long delay;
+
     /** Listeners to be notified about server status change. */
     private final LinkedList<PayaraStatusListener>[] newStatusListeners;
 
@@ -827,7 +914,8 @@ public class StatusJob {
      */
     StatusJob(final PayaraStatusEntity status) {
         this.status = status;
-        state = StatusJobState.UNKNOWN;
+        snapshot = new AtomicReference<>(
+                new StatusSnapshot(StatusJobState.UNKNOWN));
         portCheck = new Task(
                 PayaraStatusCheck.PORT, new ListenerPortCheck(this));
         locations = new RunnerTaskLocations(new ListenerLocations(this));
@@ -856,19 +944,69 @@ public class StatusJob {
     /**
      * Get server status job internal state.
      * <p/>
+     * Reads last published snapshot so no locking is involved.
+     * <p/>
      * @return Server status job internal state.
      */
     StatusJobState getState() {
-        return state;
+        return snapshot.get().getState();
     }
 
     /**
-     * Get server status job internal state.
+     * Set server status job internal state.
+     * <p/>
+     * Caller must own job lock.
      * <p/>
      * @param state Server status job internal state.
      */
     void setState(final StatusJobState state) {
-        this.state = state;
+        publish(state);
+    }
+
+    /**
+     * Get last published server status job state snapshot.
+     * <p/>
+     * @return Server status job state snapshot.
+     */
+    StatusSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Get number of consecutive checks which did not change job internal
+     * state.
+     * <p/>
+     * @return Number of consecutive checks without state change.
+     */
+    int getStableChecks() {
+        return stableChecks;
+    }
+
+    /**
+     * Get time of last IDE action on server.
+     * <p/>
+     * @return Time of last IDE action on server [ms since epoch].
+     */
+    long getTouched() {
+        return touched;
+    }
+
+    /**
+     * Get currently scheduled tasks execution delay.
+     * <p/>
+     * @return Currently scheduled tasks execution delay [ms].
+     */
+    long getDelay() {
+        return delay;
+    }
+
+    /**
+     * Set currently scheduled tasks execution delay.
+     * <p/>
+     * @param delay Currently scheduled tasks execution delay [ms].
+     */
+    void setDelay(final long delay) {
+        this.delay = delay;
     }
 
     /**
@@ -902,6 +1040,22 @@ public class StatusJob {
     // Methods                                                                //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Publish new server status job state snapshot and update server
+     * status entity.
+     * <p/>
+     * Caller must own job lock.
+     * <p/>
+     * @param newState New server status job internal state.
+     * @return Published server status job state snapshot.
+     */
+    private StatusSnapshot publish(final StatusJobState newState) {
+        final StatusSnapshot newSnapshot = new StatusSnapshot(newState);
+        snapshot.set(newSnapshot);
+        status.setStatus(newSnapshot.getStatus());
+        return newSnapshot;
+    }
+
     /**
      * Attempts to restart job switching it into <code>UNKNOWN_PORT</code> state
      * to restart status checking with fastest possible check.
@@ -925,10 +1079,10 @@ public class StatusJob {
             final PayaraStatusListener listener) {
         boolean result;
         synchronized (this) {
-            switch (state) {
+            switch (snapshot.get().getState()) {
                 case NO_CHECK:
-                    state = UNKNOWN_PORT;
-                    status.setStatus(state.toPayaraStatus());
+                    publish(UNKNOWN_PORT);
+                    stableChecks = 0;
                     scheduler.remove(this);
                     scheduler.reschedule(this);
                     result = true;
@@ -955,13 +1109,13 @@ public class StatusJob {
      */
     void stopJob(StatusScheduler scheduler) {
         synchronized (this) {
-            PayaraStatus oldStatus = state.toPayaraStatus();
-            state = NO_CHECK;
-            status.setStatus(state.toPayaraStatus());
+            final StatusSnapshot oldState = snapshot.get();
+            final StatusSnapshot newState = publish(NO_CHECK);
+            stableChecks = 0;
             scheduler.remove(this);
             scheduler.reschedule(this);
-            if (oldStatus != status.getStatus()) {
-                notifyNewStatusListeners(status.getStatus(), null);
+            if (oldState.getStatus() != newState.getStatus()) {
+                notifyNewStatusListeners(newState.getStatus(), null);
             }
         }
     }
@@ -978,13 +1132,13 @@ public class StatusJob {
     private void startStateImpl(StatusScheduler scheduler,
             final PayaraStatusListener listener,
             final PayaraStatus... newState) {
-        PayaraStatus oldStatus = status.getStatus();
-        state = STARTUP;
-        status.setStatus(state.toPayaraStatus());
+        final StatusSnapshot oldSnapshot = snapshot.get();
+        final StatusSnapshot newSnapshot = publish(STARTUP);
+        stableChecks = 0;
         scheduler.remove(this);
         scheduler.reschedule(this);
-        if (oldStatus != status.getStatus()) {
-            notifyNewStatusListeners(status.getStatus(), null);
+        if (oldSnapshot.getStatus() != newSnapshot.getStatus()) {
+            notifyNewStatusListeners(newSnapshot.getStatus(), null);
         }
         if (listener != null) {
             addNewStatusListener(listener, newState);
@@ -1015,7 +1169,7 @@ public class StatusJob {
             final PayaraStatus... newState) {
         boolean result;
         synchronized (this) {
-            switch (state) {
+            switch (snapshot.get().getState()) {
                 case OFFLINE:
                 case OFFLINE_PORT:
                     startStateImpl(scheduler, listener, newState);
@@ -1052,14 +1206,14 @@ public class StatusJob {
     boolean shutdownState(StatusScheduler scheduler) {
         boolean result;
         synchronized (this) {
-            switch (state) {
+            switch (snapshot.get().getState()) {
                 case ONLINE:
-                    state = SHUTDOWN;
-                    status.setStatus(state.toPayaraStatus());
+                    publish(SHUTDOWN);
+                    stableChecks = 0;
                     scheduler.remove(this);
                     scheduler.reschedule(this);
                     result = true;
-                    notifyNewStatusListeners(status.getStatus(), null);
+                    notifyNewStatusListeners(snapshot.get().getStatus(), null);
                     break;
                 default:
                     result = false;
@@ -1068,6 +1222,26 @@ public class StatusJob {
         return result;
     }
 
+    /**
+     * Mark job as touched by IDE action.
+     * <p/>
+     * Back off of stable server is reset and tasks are rescheduled
+     * when their delay changes.
+     * <p/>
+     * Called by job tasks scheduler.
+     * <p/>
+     * @param scheduler Job tasks scheduler calling this method.
+     * @return Value of <code>true</code>.
+     */
+    boolean touch(final StatusScheduler scheduler) {
+        synchronized (this) {
+            touched = System.currentTimeMillis();
+            stableChecks = 0;
+            scheduler.adapt(this);
+        }
+        return true;
+    }
+
     /**
      * Initial server status task schedule.
      * <p/>
@@ -1085,8 +1259,8 @@ public class StatusJob {
      * Notify server status change listeners about state change.
      * <p/>
      * Listeners list access is synchronized but they are just copied into
-     * temporary array and executed outside synchronized block to avoid
-     * deadlocks.
+     * temporary array and executed by {@link StatusNotifier} to avoid
+     * deadlocks and blocking of caller.
      * <p/>
      * @param status Current server status.
      * @param task   Payara server status check task details.
@@ -1107,9 +1281,20 @@ public class StatusJob {
                 isElement = listeners.next();
             }
         }
-        // Execute them outside synchronized block.
-        for (PayaraStatusListener listener : call) {
-            listener.newState(this.status.getServer(), status, task);
+        // Execute them in notifier thread.
+        if (call.length > 0) {
+            final PayaraStatusListener[] listenersCall = call;
+            final PayaraStatusTask taskCopy = snapshot(task);
+            StatusNotifier.getInstance().dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    for (PayaraStatusListener listener : listenersCall) {
+                        listener.newState(
+                                StatusJob.this.status.getServer(),
+                                status, taskCopy);
+                    }
+                }
+            });
         }
     }
 
@@ -1118,8 +1303,8 @@ public class StatusJob {
      * after every check.
      * <p/>
      * Listeners list access is synchronized but they are just copied into
-     * temporary array and executed outside synchronized block to avoid
-     * deadlocks.
+     * temporary array and executed by {@link StatusNotifier} to avoid
+     * deadlocks and blocking of caller.
      * <p/>
      * @param status Current server status.
      * @param task   Payara server status check task details.
@@ -1138,9 +1323,20 @@ public class StatusJob {
                 isElement = currStatusListeners.next();
             }
         }
-        // Execute them outside synchronized block.
-        for (PayaraStatusListener listener : call) {
-            listener.currentState(this.status.getServer(), status, task);
+        // Execute them in notifier thread.
+        if (call.length > 0) {
+            final PayaraStatusListener[] listenersCall = call;
+            final PayaraStatusTask taskCopy = snapshot(task);
+            StatusNotifier.getInstance().dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    for (PayaraStatusListener listener : listenersCall) {
+                        listener.currentState(
+                                StatusJob.this.status.getServer(),
+                                status, taskCopy);
+                    }
+                }
+            });
         }
     }
 
@@ -1148,8 +1344,8 @@ public class StatusJob {
      * Notify server status check error listeners about every check error.
      * <p/>
      * Listeners list access is synchronized but they are just copied into
-     * temporary array and executed outside synchronized block to avoid
-     * deadlocks.
+     * temporary array and executed by {@link StatusNotifier} to avoid
+     * deadlocks and blocking of caller.
      * <p/>
      * @param task   Payara server status check task details.
      */
@@ -1166,9 +1362,19 @@ public class StatusJob {
                 isElement = errorListeners.next();
             }
         }
-        // Execute them outside synchronized block.
-        for (PayaraStatusListener listener : call) {
-            listener.error(this.status.getServer(), task);
+        // Execute them in notifier thread.
+        if (call.length > 0) {
+            final PayaraStatusListener[] listenersCall = call;
+            final PayaraStatusTask taskCopy = snapshot(task);
+            StatusNotifier.getInstance().dispatch(new Runnable() {
+                @Override
+                public void run() {
+                    for (PayaraStatusListener listener : listenersCall) {
+                        listener.error(
+                                StatusJob.this.status.getServer(), taskCopy);
+                    }
+                }
+            });
         }
     }
 
@@ -0,0 +1,152 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.server.state;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+
+/**
+ * Server status listeners notifier.
+ * <p/>
+ * Status listeners are executed in single dedicated thread so slow listener
+ * does not block status checks executor or callers holding server status
+ * job lock. Notifications are delivered in the same order as they were
+ * dispatched.
+ */
+class StatusNotifier {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(StatusNotifier.class);
+
+    /** Notifier thread name. */
+    private static final String THREAD_NAME = "Payara Status Notifier";
+
+    /** Idle notifier thread keep alive time [ms]. */
+    private static final long KEEP_ALIVE = 60000;
+
+    /** Singleton instance of this class. */
+    private static volatile StatusNotifier instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get singleton instance of server status listeners notifier.
+     * <p/>
+     * @return Singleton instance of server status listeners notifier.
+     */
+    static StatusNotifier getInstance() {
+        if (instance == null) {
+            synchronized (StatusNotifier.class) {
+                if (instance == null) {
+                    instance = new StatusNotifier();
+                }
+            }
+        }
+        return instance;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Single thread executor running listeners. */
+    private final ThreadPoolExecutor executor;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of server status listeners notifier.
+     */
+    private StatusNotifier() {
+        executor = new ThreadPoolExecutor(1, 1,
+                KEEP_ALIVE, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new java.util.concurrent.ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, THREAD_NAME);
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Dispatch listeners notification to notifier thread.
+     * <p/>
+     * Exceptions thrown by listeners are logged so they do not prevent
+     * delivery of following notifications.
+     * <p/>
+     * @param notification Listeners notification to be executed.
+     */
+    void dispatch(final Runnable notification) {
+        final String METHOD = "dispatch";
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    notification.run();
+                } catch (RuntimeException re) {
+                    LOGGER.log(Level.WARNING, METHOD, "failed", re);
+                }
+            }
+        });
+    }
+
+}
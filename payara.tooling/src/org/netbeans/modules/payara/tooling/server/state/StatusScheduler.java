@@ -41,15 +41,18 @@
 
 package org.netbeans.modules.payara.tooling.server.state;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import org.netbeans.modules.payara.tooling.PayaraStatus;
 import org.netbeans.modules.payara.tooling.data.PayaraStatusCheck;
 import org.netbeans.modules.payara.tooling.logging.Logger;
 import static org.netbeans.modules.payara.tooling.server.state.StatusJobState.NO_CHECK;
+import static org.netbeans.modules.payara.tooling.server.state.StatusJobState.OFFLINE;
+import static org.netbeans.modules.payara.tooling.server.state.StatusJobState.ONLINE;
 import static org.netbeans.modules.payara.tooling.server.state.StatusJobState.SHUTDOWN;
 import static org.netbeans.modules.payara.tooling.server.state.StatusJobState.SHUTDOWN_PORT;
 import static org.netbeans.modules.payara.tooling.server.state.StatusJobState.STARTUP;
@@ -149,6 +152,17 @@ public class StatusScheduler {
     /** Administration port connect timeout [ms]. */
     private static final int CONNECT_TIMEOUT = 5000;
 
+    /** Default ceiling of tasks execution delay in stable state [ms]. */
+    private static final long DEFAULT_MAX_DELAY = 60000;
+
+    /** Number of consecutive checks without state change after which
+     *  tasks execution delay in stable state is doubled. */
+    private static final int BACKOFF_CHECKS = 5;
+
+    /** Server touched by IDE action is checked in startup mode pace
+     *  for this period [ms]. */
+    private static final long TOUCH_PERIOD = 60000;
+
     ////////////////////////////////////////////////////////////////////////////
     // Static methods                                                         //
     ////////////////////////////////////////////////////////////////////////////
@@ -205,37 +219,6 @@ public class StatusScheduler {
         return instance;
     }
 
-    /**
-     * Select tasks execution delay depending on current job internal state.
-     * <p/>
-     * @param state Current job internal state.
-     * @return Tasks execution delay.
-     */
-    private static long selectDelay(final StatusJobState state) {
-        switch(state) {
-            case STARTUP: case STARTUP_PORT: case SHUTDOWN: case SHUTDOWN_PORT:
-                return DELAY_STARTUP;
-            default:
-                return DELAY;
-        }
-    }
-
-    /**
-     * Select tasks execution initial delay depending on current job internal
-     * state.
-     * <p/>
-     * @param state Current job internal state.
-     * @return Tasks execution initial delay.
-     */
-    private static long selectInitialDelay(final StatusJobState state) {
-        switch(state) {
-            case STARTUP: case STARTUP_PORT: case SHUTDOWN: case SHUTDOWN_PORT:
-                return INITIAL_DELAY_STARTUP;
-            default:
-                return INITIAL_DELAY;
-        }
-    }
-
     ////////////////////////////////////////////////////////////////////////////
     // Instance attributes                                                    //
     ////////////////////////////////////////////////////////////////////////////
@@ -243,9 +226,12 @@ public class StatusScheduler {
     /** Executor to run server status checks. */
     private ScheduledThreadPoolExecutor executor;
 
-    /** Server status jobs. */
+    /** Server status jobs. Read without locking. */
     private final Map<PayaraServer, StatusJob> jobs;
 
+    /** Ceiling of tasks execution delay in stable state [ms]. */
+    private volatile long maxDelay = DEFAULT_MAX_DELAY;
+
     ////////////////////////////////////////////////////////////////////////////
     // Constructors                                                           //
     ////////////////////////////////////////////////////////////////////////////
@@ -257,13 +243,93 @@ public class StatusScheduler {
      */
     private StatusScheduler(final ScheduledThreadPoolExecutor executor) {
         this.executor = executor;
-        jobs = new HashMap<>();
+        jobs = new ConcurrentHashMap<>();
     }
     
+    ////////////////////////////////////////////////////////////////////////////
+    // Getters and Setters                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get ceiling of tasks execution delay in stable state.
+     * <p/>
+     * @return Ceiling of tasks execution delay in stable state [ms].
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * Set ceiling of tasks execution delay in stable state.
+     * <p/>
+     * Servers which stay online or offline are checked less often until
+     * this delay is reached. Value lower than default delay disables
+     * this back off. New value applies to next tasks reschedule.
+     * <p/>
+     * @param maxDelay Ceiling of tasks execution delay in stable state [ms].
+     */
+    public void setMaxDelay(final long maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
     ////////////////////////////////////////////////////////////////////////////
     // Methods                                                                //
     ////////////////////////////////////////////////////////////////////////////
 
+    /**
+     * Select tasks execution delay depending on current job internal state.
+     * <p/>
+     * Jobs in stable <code>ONLINE</code> or <code>OFFLINE</code> state back
+     * off: delay is doubled after every {@link #BACKOFF_CHECKS} consecutive
+     * checks without state change up to {@link #getMaxDelay()}. Jobs touched
+     * by IDE action recently are checked in startup mode pace.
+     * <p/>
+     * Caller must own <code>job</code> lock.
+     * <p/>
+     * @param job Server status check job internal data.
+     * @return Tasks execution delay.
+     */
+    private long selectDelay(final StatusJob job) {
+        switch(job.getState()) {
+            case STARTUP: case STARTUP_PORT: case SHUTDOWN: case SHUTDOWN_PORT:
+                return DELAY_STARTUP;
+            case ONLINE: case OFFLINE:
+                if (System.currentTimeMillis() - job.getTouched()
+                        < TOUCH_PERIOD) {
+                    return DELAY_STARTUP;
+                }
+                final int steps
+                        = Math.min(job.getStableChecks() / BACKOFF_CHECKS, 16);
+                return Math.max(DELAY, Math.min(DELAY << steps, maxDelay));
+            default:
+                return DELAY;
+        }
+    }
+
+    /**
+     * Select tasks execution initial delay depending on current job internal
+     * state.
+     * <p/>
+     * Jobs rescheduled because of back off keep their pace so next check
+     * is delayed by full new delay.
+     * <p/>
+     * Caller must own <code>job</code> lock.
+     * <p/>
+     * @param job Server status check job internal data.
+     * @return Tasks execution initial delay.
+     */
+    private long selectInitialDelay(final StatusJob job) {
+        if (job.getStableChecks() > 0) {
+            return selectDelay(job);
+        }
+        switch(job.getState()) {
+            case STARTUP: case STARTUP_PORT: case SHUTDOWN: case SHUTDOWN_PORT:
+                return INITIAL_DELAY_STARTUP;
+            default:
+                return INITIAL_DELAY;
+        }
+    }
+
     /**
      * Check if given GlassFisg server instance is registered.
      * <p/>
@@ -272,11 +338,7 @@ public class StatusScheduler {
      *          in scheduler or <code>false</code> otherwise.
      */
     public boolean exists(final PayaraServer srv) {
-        boolean result;
-        synchronized (jobs) {
-            result = jobs.containsKey(srv);
-        }
-        return result;
+        return srv != null && jobs.containsKey(srv);
     }
 
     /**
@@ -341,6 +403,22 @@ public class StatusScheduler {
         return job != null ? job.shutdownState(this) : false;
     }
 
+    /**
+     * Notify scheduler about IDE action on Payara server instance.
+     * <p/>
+     * Server status is checked in startup mode pace for a while after IDE
+     * action and back off of stable server is reset. Checks are rescheduled
+     * immediately when their delay changes.
+     * <p/>
+     * @param srv Payara server instance touched by IDE action.
+     * @return Value of <code>true</code> when server instance is registered
+     *         or <code>false</code> otherwise.
+     */
+    public boolean touch(final PayaraServer srv) {
+        StatusJob job = getJob(srv);
+        return job != null ? job.touch(this) : false;
+    }
+
     /**
      * Register GlassFisg server instance into scheduler, register server status
      * listener and launch server status checking jobs.
@@ -428,11 +506,7 @@ public class StatusScheduler {
      *         or <code>null</code> when no such job exists.
      */
     public StatusJob getJob(final PayaraServer srv) {
-        StatusJob job;
-        synchronized (jobs) {
-            job = jobs.get(srv);
-        }
-        return job;
+        return srv != null ? jobs.get(srv) : null;
     }
 
     /**
@@ -445,14 +519,7 @@ public class StatusScheduler {
      *         {@link Map} or <code>false</code> otherwise.
      */
     private boolean addJob(final StatusJob job) {
-        synchronized (jobs) {
-            if (jobs.get(job.getStatus().getServer()) == null) {
-                jobs.put(job.getStatus().getServer(), job);
-                return true;
-            } else {
-                return false;
-            }
-        }
+        return jobs.putIfAbsent(job.getStatus().getServer(), job) == null;
     }
 
     /**
@@ -463,11 +530,7 @@ public class StatusScheduler {
      *         no job for given server instance was found.
      */
     private StatusJob removeJob(final PayaraServer srv) {
-        StatusJob job;
-        synchronized (jobs) {
-            job = jobs.remove(srv);
-        }
-        return job;
+        return srv != null ? jobs.remove(srv) : null;
     }
 
     /**
@@ -483,10 +546,11 @@ public class StatusScheduler {
             final StatusJob job, final long initialDelay) {
         RunnerTask runnerTask = new RunnerTask(job,
                 job.getLocations(), PayaraStatusCheck.LOCATIONS);
-        long delay = selectDelay(job.getState());
+        long delay = selectDelay(job);
         ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
                 runnerTask, initialDelay, delay, TimeUnit.MILLISECONDS);
         job.getLocations().setTaskFuture(runnerTask, scheduledFuture);
+        job.setDelay(delay);
         return scheduledFuture;
     }
     
@@ -502,10 +566,11 @@ public class StatusScheduler {
             final StatusJob job, final long initialDelay) {
         RunnerTask runnerTask = new RunnerTask(job,
                 job.getVersion(), PayaraStatusCheck.VERSION);
-        long delay = selectDelay(job.getState());
+        long delay = selectDelay(job);
         ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
                 runnerTask, initialDelay, delay, TimeUnit.MILLISECONDS);
         job.getVersion().setTaskFuture(runnerTask, scheduledFuture);
+        job.setDelay(delay);
         return scheduledFuture;
     }
 
@@ -518,7 +583,7 @@ public class StatusScheduler {
      * @param job  Server status check job internal data.
      */
     private ScheduledFuture scheduleLocationsTask(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
+        long initialDelay = selectInitialDelay(job);
         return scheduleLocationsTask(job, initialDelay);
     }
     
@@ -530,7 +595,7 @@ public class StatusScheduler {
      * @param job  Server status check job internal data.
      */
     private ScheduledFuture scheduleVersionTask(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
+        long initialDelay = selectInitialDelay(job);
         return scheduleVersionTask(job, initialDelay);
     }
 
@@ -544,23 +609,46 @@ public class StatusScheduler {
     private ScheduledFuture scheduleAdminPortTask(final StatusJob job) {
         AdminPortTask portTask = new AdminPortTask(job,
                 job.getPortCheck(), CONNECT_TIMEOUT);
-        long delay = selectDelay(job.getState());
-        long initialDelay = selectInitialDelay(job.getState());
+        long delay = selectDelay(job);
+        long initialDelay = selectInitialDelay(job);
         ScheduledFuture scheduledFuture = executor.scheduleWithFixedDelay(
                 portTask, initialDelay, delay, TimeUnit.MILLISECONDS);
         job.getPortCheck().setTaskFuture(portTask, scheduledFuture);
+        job.setDelay(delay);
         return scheduledFuture;
     }
 
+    /**
+     * Execute short task in status checks executor.
+     * <p/>
+     * Used to process results of asynchronous checks outside
+     * of their callback threads.
+     * <p/>
+     * @param task Task to be executed.
+     */
+    void execute(final Runnable task) {
+        executor.execute(task);
+    }
+
     /**
      * Cancel execution of scheduled job task.
      * <p/>
      * @param task Individual status check task data.
      */
     void cancel(final StatusJob.Task task) {
+        cancel(task, true);
+    }
+
+    /**
+     * Cancel execution of scheduled job task.
+     * <p/>
+     * @param task      Individual status check task data.
+     * @param interrupt Interrupt running task when <code>true</code>.
+     */
+    private void cancel(final StatusJob.Task task, final boolean interrupt) {
         ScheduledFuture future = task.getFuture();
         if (future != null) {
-            future.cancel(true);
+            future.cancel(interrupt);
         }
         AbstractTask runnable = task.getTask();
         if (runnable != null) {
@@ -612,8 +700,8 @@ public class StatusScheduler {
      * @param job Server status check job internal data.
      */
     private void localChecksStepByStep(final StatusJob job) {
-        long delay = selectDelay(job.getState());
-        long initialDelay = selectInitialDelay(job.getState());
+        long delay = selectDelay(job);
+        long initialDelay = selectInitialDelay(job);
         scheduleAdminPortTask(job);
         scheduleLocationsTask(job, initialDelay + delay / 2);
         job.getVersion().clearTaskFuture();
@@ -630,7 +718,7 @@ public class StatusScheduler {
      * @param job Server status check job internal data.
      */
     private void localChecksCommand(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
+        long initialDelay = selectInitialDelay(job);
         scheduleLocationsTask(job, initialDelay);
         job.getPortCheck().clearTaskFuture();
         job.getVersion().clearTaskFuture();
@@ -666,8 +754,8 @@ public class StatusScheduler {
      * @param job Server status check job internal data.
      */
     private void remoteChecksStepByStep(final StatusJob job) {
-        long delay = selectDelay(job.getState());
-        long initialDelay = selectInitialDelay(job.getState());
+        long delay = selectDelay(job);
+        long initialDelay = selectInitialDelay(job);
         scheduleAdminPortTask(job);
         scheduleVersionTask(job, initialDelay + delay / 2);
         job.getLocations().clearTaskFuture();
@@ -685,7 +773,7 @@ public class StatusScheduler {
      * @param job Server status check job internal data.
      */
     private void remoteChecksCommand(final StatusJob job) {
-        long initialDelay = selectInitialDelay(job.getState());
+        long initialDelay = selectInitialDelay(job);
         scheduleVersionTask(job, initialDelay);
         job.getPortCheck().clearTaskFuture();
         job.getLocations().clearTaskFuture();
@@ -702,7 +790,7 @@ public class StatusScheduler {
         job.getPortCheck().clearTaskFuture();
         job.getLocations().clearTaskFuture();
         job.getVersion().clearTaskFuture();
-        
+        job.setDelay(0);
     }
 
     /**
@@ -717,6 +805,35 @@ public class StatusScheduler {
         executor.purge();
     }
 
+    /**
+     * Reschedule server status job tasks when their execution delay
+     * shall change while job internal state stays the same.
+     * <p/>
+     * Running task is not interrupted because this is called from its
+     * result evaluation.
+     * <p/>
+     * Caller must own <code>job</code> lock.
+     * <p/>
+     * @param job Server status job.
+     */
+    void adapt(final StatusJob job) {
+        final String METHOD = "adapt";
+        if (job.getState() == NO_CHECK) {
+            return;
+        }
+        final long delay = selectDelay(job);
+        if (delay != job.getDelay()) {
+            LOGGER.log(Level.FINE, METHOD, "delay", new String[] {
+                job.getStatus().getServer().getName(),
+                Long.toString(job.getDelay()), Long.toString(delay)});
+            cancel(job.getPortCheck(), false);
+            cancel(job.getVersion(), false);
+            cancel(job.getLocations(), false);
+            executor.purge();
+            reschedule(job);
+        }
+    }
+
     /**
      * Schedule new server status job.
      * <p/>
@@ -58,8 +58,11 @@ import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 import org.netbeans.modules.payara.tooling.PayaraIdeException;
 import org.netbeans.modules.payara.tooling.logging.Logger;
@@ -148,6 +151,11 @@ public class NetUtils {
         (byte) '.', (byte) '0', (byte)'\n', (byte)'\n'
     };
 
+    /** Secure port detection results cache. Keys are <code>host:port</code>
+     *  strings, values are <code>true</code> for secure (HTTPS) listeners. */
+    private static final Map<String, Boolean> SECURE_PORTS
+            = new ConcurrentHashMap<>();
+
     /** Comparator for {@link InetAddress} instances to be sorted. */
     private static final InetAddressComparator INET_ADDRESS_COMPARATOR
             = new InetAddressComparator();
@@ -160,6 +168,9 @@ public class NetUtils {
      * Finds out if server is running on remote host by connecting to remote
      * host and port.
      * <p/>
+     * Connection is handled by shared {@link PortProber} so the caller
+     * only waits for the result.
+     * <p/>
      * @param host Server host.
      * @param port Server port.
      * @param timeout Network connection timeout [ms].
@@ -168,26 +179,16 @@ public class NetUtils {
      */
     public static boolean isPortListeningRemote(final String host,
             final int port, final int timeout) {
-        final String METHOD = "isPortListeningRemote";
         if (null == host) {
             return false;
         }
-        Socket socket = null;
         try {
-            socket = new Socket();
-            socket.connect(new InetSocketAddress(host, port), timeout);
-            return true;
-        } catch (IOException ex) {
+            return PortProber.getInstance().probe(host, port, timeout).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ee) {
             return false;
-        } finally {
-            if (socket != null) {
-                try {
-                    socket.close();
-                } catch (IOException ioe) {
-                    LOGGER.log(Level.INFO, METHOD,
-                            "closeError", ioe.getLocalizedMessage());
-                }
-            }
         }
     }
 
@@ -258,6 +259,49 @@ public class NetUtils {
         return isSecurePort(hostname,port, 0);
     }
 
+    /**
+     * Determine whether an HTTP listener is secure or not using cached
+     * result of previous check when available.
+     * <p/>
+     * Listener protocol is stable for the lifetime of server instance so
+     * {@link #isSecurePort(String, int)} test query is sent only once
+     * for each host and port. Failed checks are not cached. Cached value
+     * should be removed using {@link #invalidateSecurePort(String, int)}
+     * when connection to the listener fails or server is restarted.
+     * <p/>
+     * @param hostname The host for the HTTP listener.
+     * @param port     The port for the HTTP listener.
+     * @throws IOException
+     * @throws SocketTimeoutException
+     * @throws ConnectException
+     */
+    public static boolean isSecurePortCached(final String hostname,
+            final int port)
+            throws IOException, ConnectException, SocketTimeoutException {
+        final String key = hostname + ':' + port;
+        Boolean secure = SECURE_PORTS.get(key);
+        if (secure == null) {
+            secure = isSecurePort(hostname, port);
+            SECURE_PORTS.put(key, secure);
+        }
+        return secure;
+    }
+
+    /**
+     * Remove cached result of secure port check for HTTP listener.
+     * <p/>
+     * @param hostname The host for the HTTP listener.
+     * @param port     The port for the HTTP listener.
+     */
+    public static void invalidateSecurePort(final String hostname,
+            final int port) {
+        final String METHOD = "invalidateSecurePort";
+        if (SECURE_PORTS.remove(hostname + ':' + port) != null) {
+            LOGGER.log(Level.FINE, METHOD, "invalidate",
+                    new Object[] {hostname, Integer.toString(port)});
+        }
+    }
+
     /**
      * Determine whether an HTTP listener is secure or not..
      * <p/>
@@ -0,0 +1,416 @@
+/*
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ *
+ * Copyright (c) 2015, 2016 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.
+ *
+ * The contents of this file are subject to the terms of either the GNU
+ * General Public License Version 2 only ("GPL") or the Common
+ * Development and Distribution License("CDDL") (collectively, the
+ * "License"). You may not use this file except in compliance with the
+ * License. You can obtain a copy of the License at
+ * http://www.netbeans.org/cddl-gplv2.html
+ * or nbbuild/licenses/CDDL-GPL-2-CP. See the License for the
+ * specific language governing permissions and limitations under the
+ * License.  When distributing the software, include this License Header
+ * Notice in each file and include the License file at
+ * nbbuild/licenses/CDDL-GPL-2-CP.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the GPL Version 2 section of the License file that
+ * accompanied this code. If applicable, add the following below the
+ * License Header, with the fields enclosed by brackets [] replaced by
+ * your own identifying information:
+ * "Portions Copyrighted [year] [name of copyright owner]"
+ *
+ * If you wish your version of this file to be governed by only the CDDL
+ * or only the GPL Version 2, indicate your decision by adding
+ * "[Contributor] elects to include this software in this distribution
+ * under the [CDDL or GPL Version 2] license." If you do not indicate a
+ * single choice of license, a recipient has the option to distribute
+ * your version of this file under either the CDDL, the GPL Version 2 or
+ * to extend the choice of license to its licensees as provided above.
+ * However, if you add GPL Version 2 code and therefore, elected the GPL
+ * Version 2 license, then the option applies only if the new code is
+ * made subject to such option by the copyright holder.
+ *
+ * Contributor(s):
+ */
+// Portions Copyright [2017] [Payara Foundation and/or its affiliates]
+
+
+package org.netbeans.modules.payara.tooling.utils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.netbeans.modules.payara.tooling.logging.Logger;
+
+/**
+ * Shared non blocking port liveness prober.
+ * <p/>
+ * Port checks are started as non blocking connects and multiplexed
+ * on single selector thread. Result of every check is reported trough
+ * callback so no thread is blocked while waiting for connection.
+ * <p/>
+ * Callbacks are executed in prober thread. They must not block
+ * and should pass any longer processing to another thread.
+ */
+public class PortProber implements Runnable {
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Inner classes                                                          //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Port check result callback.
+     */
+    public interface Listener {
+
+        /**
+         * Port check finished.
+         * <p/>
+         * @param listening Value of <code>true</code> when port accepted
+         *                  connection or <code>false</code> otherwise.
+         * @param failure   Connection failure or <code>null</code> when port
+         *                  accepted connection. Timeout is reported
+         *                  as {@link SocketTimeoutException}.
+         */
+        public void probed(final boolean listening, final IOException failure);
+
+    }
+
+    /**
+     * Single port check.
+     */
+    private static class Probe {
+
+        /** Checked address. */
+        private final InetSocketAddress address;
+
+        /** Check deadline [ns] or <code>0</code> for no deadline. */
+        private final long deadline;
+
+        /** Check result callback. */
+        private final Listener listener;
+
+        /**
+         * Creates an instance of single port check.
+         * <p/>
+         * @param address  Checked address.
+         * @param deadline Check deadline [ns] or <code>0</code>
+         *                 for no deadline.
+         * @param listener Check result callback.
+         */
+        private Probe(final InetSocketAddress address, final long deadline,
+                final Listener listener) {
+            this.address = address;
+            this.deadline = deadline;
+            this.listener = listener;
+        }
+
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Class attributes                                                       //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Logger instance for this class. */
+    private static final Logger LOGGER = new Logger(PortProber.class);
+
+    /** Prober thread name. */
+    private static final String THREAD_NAME = "Payara Port Prober";
+
+    /** Singleton instance of this class. */
+    private static volatile PortProber instance;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Static methods                                                         //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Get singleton instance of port prober. Prober thread is started
+     * with first instance access.
+     * <p/>
+     * @return Singleton instance of port prober.
+     */
+    public static PortProber getInstance() {
+        if (instance == null) {
+            synchronized (PortProber.class) {
+                if (instance == null) {
+                    instance = new PortProber();
+                    instance.start();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Notify callback about port check result.
+     * <p/>
+     * Exceptions thrown by callback are logged so prober thread survives.
+     * <p/>
+     * @param listener  Check result callback.
+     * @param listening Port accepted connection.
+     * @param failure   Connection failure.
+     */
+    private static void notify(final Listener listener,
+            final boolean listening, final IOException failure) {
+        final String METHOD = "notify";
+        try {
+            listener.probed(listening, failure);
+        } catch (RuntimeException re) {
+            LOGGER.log(Level.WARNING, METHOD, "failed", re);
+        }
+    }
+
+    /**
+     * Check port using blocking socket in caller thread.
+     * <p/>
+     * Used when selector could not be opened.
+     * <p/>
+     * @param address  Checked address.
+     * @param timeout  Connection timeout [ms] or <code>0</code>
+     *                 for no timeout.
+     * @param listener Check result callback.
+     */
+    private static void probeBlocking(final InetSocketAddress address,
+            final int timeout, final Listener listener) {
+        IOException failure = null;
+        try (Socket socket = new Socket()) {
+            socket.connect(address, timeout);
+        } catch (IOException ioe) {
+            failure = ioe;
+        }
+        notify(listener, failure == null, failure);
+    }
+
+    /**
+     * Close channel ignoring any error.
+     * <p/>
+     * @param channel Channel to be closed.
+     */
+    private static void close(final SocketChannel channel) {
+        final String METHOD = "close";
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            LOGGER.log(Level.FINEST, METHOD, "failed", ioe.getMessage());
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Instance attributes                                                    //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /** Port checks waiting for registration in selector. */
+    private final Queue<Probe> pending = new ConcurrentLinkedQueue<>();
+
+    /** Selector multiplexing running port checks or <code>null</code>
+     *  when selector could not be opened. */
+    private final Selector selector;
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Constructors                                                           //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates an instance of port prober.
+     */
+    private PortProber() {
+        final String METHOD = "init";
+        Selector newSelector;
+        try {
+            newSelector = Selector.open();
+        } catch (IOException ioe) {
+            LOGGER.log(Level.WARNING, METHOD, "selector", ioe);
+            newSelector = null;
+        }
+        selector = newSelector;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////
+    // Methods                                                                //
+    ////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Start prober thread.
+     */
+    private void start() {
+        if (selector != null) {
+            Thread thread = new Thread(this, THREAD_NAME);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Start port check.
+     * <p/>
+     * Host name is resolved in caller thread. Result is reported trough
+     * callback executed in prober thread.
+     * <p/>
+     * @param host     Server host.
+     * @param port     Server port.
+     * @param timeout  Connection timeout [ms] or <code>0</code>
+     *                 for no timeout.
+     * @param listener Check result callback.
+     */
+    public void probe(final String host, final int port, final int timeout,
+            final Listener listener) {
+        final InetSocketAddress address = new InetSocketAddress(host, port);
+        if (address.isUnresolved()) {
+            notify(listener, false, new UnknownHostException(host));
+            return;
+        }
+        if (selector == null) {
+            probeBlocking(address, timeout, listener);
+            return;
+        }
+        pending.add(new Probe(address, timeout > 0
+                ? Math.max(System.nanoTime()
+                        + TimeUnit.MILLISECONDS.toNanos(timeout), 1) : 0,
+                listener));
+        selector.wakeup();
+    }
+
+    /**
+     * Start port check.
+     * <p/>
+     * @param host    Server host.
+     * @param port    Server port.
+     * @param timeout Connection timeout [ms] or <code>0</code>
+     *                for no timeout.
+     * @return Future completed with <code>true</code> when port accepted
+     *         connection or <code>false</code> otherwise.
+     */
+    public CompletableFuture<Boolean> probe(final String host,
+            final int port, final int timeout) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        probe(host, port, timeout, new Listener() {
+            @Override
+            public void probed(final boolean listening,
+                    final IOException failure) {
+                future.complete(listening);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Prober thread main loop.
+     */
+    @Override
+    public void run() {
+        final String METHOD = "run";
+        while (true) {
+            try {
+                register();
+                final long wait = nextDeadline();
+                selector.select(wait > 0 ? Math.max(
+                        TimeUnit.NANOSECONDS.toMillis(wait), 1) : 0);
+                finishConnects();
+                expire();
+            } catch (IOException | RuntimeException ex) {
+                LOGGER.log(Level.WARNING, METHOD, "failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Start connections of pending port checks and register them
+     * in selector.
+     */
+    private void register() {
+        Probe probe;
+        while ((probe = pending.poll()) != null) {
+            SocketChannel channel = null;
+            try {
+                channel = SocketChannel.open();
+                channel.configureBlocking(false);
+                if (channel.connect(probe.address)) {
+                    close(channel);
+                    notify(probe.listener, true, null);
+                } else {
+                    channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                }
+            } catch (IOException ioe) {
+                if (channel != null) {
+                    close(channel);
+                }
+                notify(probe.listener, false, ioe);
+            }
+        }
+    }
+
+    /**
+     * Get time remaining to nearest port check deadline.
+     * <p/>
+     * @return Time remaining to nearest deadline [ns] or <code>0</code>
+     *         when no running check has deadline.
+     */
+    private long nextDeadline() {
+        long nearest = 0;
+        for (SelectionKey key : selector.keys()) {
+            final long deadline = ((Probe)key.attachment()).deadline;
+            if (deadline != 0 && (nearest == 0 || deadline - nearest < 0)) {
+                nearest = deadline;
+            }
+        }
+        return nearest != 0 ? Math.max(nearest - System.nanoTime(), 1) : 0;
+    }
+
+    /**
+     * Finish connections of port checks selected by selector.
+     */
+    private void finishConnects() {
+        final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            keys.remove();
+            final SocketChannel channel = (SocketChannel)key.channel();
+            final Probe probe = (Probe)key.attachment();
+            IOException failure = null;
+            try {
+                channel.finishConnect();
+            } catch (IOException ioe) {
+                failure = ioe;
+            }
+            key.cancel();
+            close(channel);
+            notify(probe.listener, failure == null, failure);
+        }
+    }
+
+    /**
+     * Fail port checks with expired deadline.
+     */
+    private void expire() {
+        final long now = System.nanoTime();
+        for (SelectionKey key : selector.keys()) {
+            final Probe probe = (Probe)key.attachment();
+            if (key.isValid() && probe.deadline != 0
+                    && probe.deadline - now <= 0) {
+                key.cancel();
+                close((SocketChannel)key.channel());
+                notify(probe.listener, false, new SocketTimeoutException(
+                        LOGGER.excMsg("expire", "timeout",
+                        probe.address.toString())));
+            }
+        }
+    }
+
+}
@@ -816,6 +816,16 @@ public class ServerUtils {
         return sb.toString();
     }
 
+    /**
+     * Build key identifying administration interface of Payara server.
+     * <p/>
+     * @param server Payara server entity.
+     * @return Administration interface key (<code>host:port</code>).
+     */
+    public static String adminKey(final PayaraServer server) {
+        return server.getHost() + ':' + server.getAdminPort();
+    }
+
     /**
      * Get Payara server domain root full path.
      * <p/>